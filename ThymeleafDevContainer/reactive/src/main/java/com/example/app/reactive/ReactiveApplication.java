@@ -0,0 +1,21 @@
+package com.example.app.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * リアクティブ版（WebFlux + R2DBC）のメインクラス
+ * サーブレット版（Tomcat + JDBC）と同じ画面・データベースを、少数のイベントループスレッドで処理する
+ */
+@SpringBootApplication
+public class ReactiveApplication {
+
+    /**
+     * アプリケーションのエントリーポイント
+     * 
+     * @param args コマンドライン引数
+     */
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveApplication.class, args);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.app.reactive.controller;
+
+import com.example.app.reactive.entity.SampleEntity;
+import com.example.app.reactive.service.SampleService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+/**
+ * サンプルAPIコントローラークラス（リアクティブ版）
+ * 画面から利用するAPIのうち、名前検索とオートコンプリートを提供する
+ */
+@RestController
+@RequestMapping("/api/samples")
+public class SampleApiController {
+    
+    private final SampleService sampleService;
+    
+    @Value("${app.autocomplete.max-results:10}")
+    private int autocompleteMaxResults;
+    
+    /**
+     * コンストラクタ
+     * 
+     * @param sampleService サンプルサービス
+     */
+    public SampleApiController(SampleService sampleService) {
+        this.sampleService = sampleService;
+    }
+    
+    /**
+     * 名前でエンティティを検索
+     * 
+     * @param name 名前
+     * @return ID昇順のエンティティ
+     */
+    @GetMapping
+    public Flux<SampleEntity> findByName(@RequestParam("name") String name) {
+        return sampleService.findByName(name);
+    }
+    
+    /**
+     * 前方一致する名前を取得（オートコンプリート用）
+     * 
+     * @param prefix 前方一致させる文字列
+     * @param limit 最大件数（上限を超える場合は上限値）
+     * @return 名前
+     */
+    @GetMapping("/autocomplete")
+    public Flux<String> autocomplete(@RequestParam("prefix") String prefix,
+                                     @RequestParam(value = "limit", required = false) Integer limit) {
+        if (prefix.isBlank()) {
+            return Flux.empty();
+        }
+        int max = limit == null || limit < 1 ? autocompleteMaxResults : Math.min(limit, autocompleteMaxResults);
+        return sampleService.suggestNames(prefix, max);
+    }
+}
@@ -0,0 +1,242 @@
+package com.example.app.reactive.controller;
+
+import com.example.app.reactive.dto.SampleForm;
+import com.example.app.reactive.service.SampleService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * サンプルコントローラークラス（リアクティブ版）
+ * サーブレット版のSampleControllerと同じルート・テンプレートを、WebFluxのハンドラーとして提供する
+ * WebFluxにはリダイレクト時のフラッシュ属性がないため、メッセージはセッションに保持して次の画面表示で取り出す
+ */
+@Controller
+public class SampleController {
+    
+    private static final Logger log = LoggerFactory.getLogger(SampleController.class);
+    
+    private static final String FLASH_ATTRIBUTE = "flash";
+    
+    private final SampleService sampleService;
+    private final Environment environment;
+    
+    @Value("${spring.application.name:spring-boot-thymeleaf-reactive}")
+    private String applicationName;
+    
+    @Value("${app.pagination.default-size:20}")
+    private int defaultPageSize;
+    
+    @Value("${app.pagination.max-size:100}")
+    private int maxPageSize;
+    
+    /**
+     * コンストラクタ
+     * 
+     * @param sampleService サンプルサービス
+     * @param environment 環境情報
+     */
+    public SampleController(SampleService sampleService, Environment environment) {
+        this.sampleService = sampleService;
+        this.environment = environment;
+    }
+    
+    /**
+     * インデックスページを表示
+     * キーワードが指定された場合は名前の部分一致・あいまい検索の結果を、
+     * それ以外はキーセット方式で1ページ分のエンティティを取得してモデルに設定
+     * 
+     * @param after 次ページ取得時の境界ID
+     * @param before 前ページ取得時の境界ID
+     * @param size 1ページあたりの件数
+     * @param q 検索キーワード
+     * @param model モデル
+     * @param exchange リクエスト
+     * @return テンプレート名
+     */
+    @GetMapping("/")
+    public Mono<String> index(@RequestParam(required = false) Long after,
+                              @RequestParam(required = false) Long before,
+                              @RequestParam(required = false) Integer size,
+                              @RequestParam(required = false) String q,
+                              Model model, ServerWebExchange exchange) {
+        log.info("インデックスページにアクセス: after={}, before={}, size={}, q={}", after, before, size, q);
+        
+        // ページサイズの決定（未指定時はデフォルト値、上限を超える場合は上限値）
+        int pageSize = size == null || size < 1 ? defaultPageSize : Math.min(size, maxPageSize);
+        
+        // モデルへのデータ設定
+        String activeProfile = Arrays.stream(environment.getActiveProfiles())
+            .findFirst()
+            .orElse("default");
+        model.addAttribute("pageSize", pageSize);
+        model.addAttribute("title", "サンプルアプリケーション");
+        model.addAttribute("activeProfile", activeProfile);
+        model.addAttribute("applicationName", applicationName);
+        model.addAttribute("currentTime", LocalDateTime.now());
+        
+        // ビジネスロジックの実行（検索時はページネーションを行わず、類似度の高い順に上位のみ表示）
+        Mono<Void> content;
+        if (q != null && !q.isBlank()) {
+            model.addAttribute("query", q);
+            content = sampleService.searchByName(q, pageSize).collectList()
+                .doOnNext(samples -> model.addAttribute("samples", samples))
+                .onErrorResume(IllegalArgumentException.class, e -> {
+                    model.addAttribute("samples", List.of());
+                    model.addAttribute("message", e.getMessage());
+                    model.addAttribute("messageType", "error");
+                    return Mono.empty();
+                })
+                .then();
+        } else {
+            content = sampleService.findPage(after, before, pageSize)
+                .doOnNext(page -> {
+                    model.addAttribute("samples", page.content());
+                    model.addAttribute("page", page);
+                })
+                .then();
+        }
+        
+        return content.then(consumeFlash(exchange, model)).thenReturn("index");
+    }
+    
+    /**
+     * 作成フォームページを表示
+     * 
+     * @param model モデル
+     * @param exchange リクエスト
+     * @return テンプレート名
+     */
+    @GetMapping("/create")
+    public Mono<String> createForm(Model model, ServerWebExchange exchange) {
+        model.addAttribute("title", "新規作成");
+        return consumeFlash(exchange, model).thenReturn("create");
+    }
+    
+    /**
+     * エンティティを作成
+     * 
+     * @param form 入力値
+     * @param exchange リクエスト
+     * @return リダイレクト先
+     */
+    @PostMapping("/create")
+    public Mono<String> create(@ModelAttribute SampleForm form, ServerWebExchange exchange) {
+        return sampleService.create(form.name())
+            .flatMap(entity -> flash(exchange, "エンティティを作成しました: " + entity.getName(), "success")
+                .thenReturn("redirect:/"))
+            .onErrorResume(IllegalArgumentException.class, e -> {
+                log.warn("エンティティの作成に失敗: {}", e.getMessage());
+                return flash(exchange, "エラー: " + e.getMessage(), "error").thenReturn("redirect:/create");
+            });
+    }
+    
+    /**
+     * 編集フォームページを表示
+     * 
+     * @param id エンティティID
+     * @param model モデル
+     * @param exchange リクエスト
+     * @return テンプレート名
+     */
+    @GetMapping("/edit/{id}")
+    public Mono<String> editForm(@PathVariable Long id, Model model, ServerWebExchange exchange) {
+        return sampleService.findById(id)
+            .switchIfEmpty(Mono.error(() -> new RuntimeException("エンティティが見つかりません: id=" + id)))
+            .doOnNext(entity -> {
+                model.addAttribute("entity", entity);
+                model.addAttribute("title", "編集 - " + entity.getName());
+            })
+            .then(consumeFlash(exchange, model))
+            .thenReturn("edit");
+    }
+    
+    /**
+     * エンティティを更新
+     * 
+     * @param id エンティティID
+     * @param form 入力値
+     * @param exchange リクエスト
+     * @return リダイレクト先
+     */
+    @PostMapping("/edit/{id}")
+    public Mono<String> update(@PathVariable Long id, @ModelAttribute SampleForm form, ServerWebExchange exchange) {
+        return sampleService.update(id, form.name(), form.version())
+            .then(flash(exchange, "エンティティを更新しました: " + form.name().trim(), "success"))
+            .thenReturn("redirect:/")
+            .onErrorResume(e -> e instanceof IllegalArgumentException || e instanceof OptimisticLockingFailureException,
+                e -> {
+                    // 編集フォームには最新の内容とバージョンが表示される
+                    log.warn("エンティティの更新に失敗: {}", e.getMessage());
+                    return flash(exchange, "エラー: " + e.getMessage(), "error").thenReturn("redirect:/edit/" + id);
+                });
+    }
+    
+    /**
+     * エンティティを削除
+     * 
+     * @param id エンティティID
+     * @param exchange リクエスト
+     * @return リダイレクト先
+     */
+    @PostMapping("/delete/{id}")
+    public Mono<String> delete(@PathVariable Long id, ServerWebExchange exchange) {
+        return sampleService.delete(id)
+            .then(flash(exchange, "エンティティを削除しました", "success"))
+            .onErrorResume(RuntimeException.class, e -> {
+                log.warn("エンティティの削除に失敗: {}", e.getMessage());
+                return flash(exchange, "エラー: " + e.getMessage(), "error");
+            })
+            .thenReturn("redirect:/");
+    }
+    
+    /**
+     * 次の画面表示で表示するメッセージをセッションに保持
+     * 
+     * @param exchange リクエスト
+     * @param message メッセージ
+     * @param messageType メッセージの種類（success/error）
+     * @return 完了
+     */
+    private static Mono<Void> flash(ServerWebExchange exchange, String message, String messageType) {
+        return exchange.getSession()
+            .doOnNext(session -> session.getAttributes().put(FLASH_ATTRIBUTE,
+                Map.of("message", message, "messageType", messageType)))
+            .then();
+    }
+    
+    /**
+     * セッションに保持したメッセージを取り出してモデルに設定（取り出したメッセージは削除）
+     * 
+     * @param exchange リクエスト
+     * @param model モデル
+     * @return 完了
+     */
+    @SuppressWarnings("unchecked")
+    private static Mono<Void> consumeFlash(ServerWebExchange exchange, Model model) {
+        return exchange.getSession()
+            .doOnNext(session -> {
+                Object flash = session.getAttributes().remove(FLASH_ATTRIBUTE);
+                if (flash instanceof Map<?, ?> attributes) {
+                    model.addAllAttributes((Map<String, ?>) attributes);
+                }
+            })
+            .then();
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.app.reactive.dto;
+
+import java.util.List;
+
+/**
+ * キーセットページネーションの結果を表すレコード（サーブレット版と同じ形式で、同じテンプレートから参照される）
+ * OFFSETを使わず、前後ページへのカーソル（境界となるID）を保持する
+ * 
+ * @param <T> 要素の型
+ * @param content ページ内の要素（ID昇順）
+ * @param previousCursor 前ページ取得用のカーソル（前ページが存在しない場合はnull）
+ * @param nextCursor 次ページ取得用のカーソル（次ページが存在しない場合はnull）
+ */
+public record KeysetPage<T>(List<T> content, Long previousCursor, Long nextCursor) {
+    
+    /**
+     * コンストラクタ
+     * 要素リストは不変リストとして保持する
+     */
+    public KeysetPage {
+        content = List.copyOf(content);
+    }
+    
+    /**
+     * 前ページが存在するかどうか
+     * 
+     * @return 前ページが存在する場合はtrue
+     */
+    public boolean hasPrevious() {
+        return previousCursor != null;
+    }
+    
+    /**
+     * 次ページが存在するかどうか
+     * 
+     * @return 次ページが存在する場合はtrue
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+    
+    /**
+     * ページが空かどうか
+     * 
+     * @return 要素が存在しない場合はtrue
+     */
+    public boolean isEmpty() {
+        return content.isEmpty();
+    }
+}
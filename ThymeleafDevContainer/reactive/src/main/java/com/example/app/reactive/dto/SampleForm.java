@@ -0,0 +1,11 @@
+package com.example.app.reactive.dto;
+
+/**
+ * 作成・編集フォームの入力値
+ * WebFluxでは@RequestParamでフォームの値を受け取れないため、@ModelAttributeでバインドする
+ * 
+ * @param name 名前
+ * @param version 編集開始時のバージョン（作成時はnull）
+ */
+public record SampleForm(String name, Long version) {
+}
@@ -0,0 +1,91 @@
+package com.example.app.reactive.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * サンプルエンティティクラス（R2DBC）
+ * サーブレット版と同じsample_tableにマッピングする
+ * IDは挿入時にデータベースのシーケンス（DEFAULT）で採番される
+ */
+@Table("sample_table")
+public class SampleEntity {
+    
+    @Id
+    private Long id;
+    
+    @Column("name")
+    private String name;
+    
+    @Column("created_at")
+    private LocalDateTime createdAt;
+    
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+    
+    @Version
+    @Column("version")
+    private Long version;
+    
+    /**
+     * デフォルトコンストラクタ
+     */
+    public SampleEntity() {
+    }
+    
+    /**
+     * 新規作成用のコンストラクタ
+     * 
+     * @param name 名前
+     * @param createdAt 作成日時
+     */
+    public SampleEntity(String name, LocalDateTime createdAt) {
+        this.name = name;
+        this.createdAt = createdAt;
+        this.updatedAt = createdAt;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
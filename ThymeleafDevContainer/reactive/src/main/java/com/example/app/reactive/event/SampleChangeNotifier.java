@@ -0,0 +1,118 @@
+package com.example.app.reactive.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * sample_tableの変更通知（リアクティブ版）
+ * サーブレット版のSampleInvalidationBusと同じ形式の通知を、変更を行ったトランザクション内でpg_notifyにより送信する
+ * 同じデータベースに接続したサーブレット版の各ノードは、この通知を受信してキャッシュ・名前索引を無効化する
+ */
+@Component
+public class SampleChangeNotifier {
+    
+    private static final String NOTIFY_SQL = "SELECT pg_notify(:channel, :payload)";
+    
+    private final DatabaseClient databaseClient;
+    
+    private final ObjectMapper objectMapper;
+    
+    /** このノードの識別子（サーブレット版の受信側は送信元が自ノードの通知のみを無視する） */
+    private final String nodeId = UUID.randomUUID().toString();
+    
+    @Value("${app.invalidation-bus.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${app.invalidation-bus.channel:sample_changed}")
+    private String channel;
+    
+    /**
+     * コンストラクタ
+     * 
+     * @param databaseClient データベースクライアント
+     * @param objectMapper JSON変換
+     */
+    public SampleChangeNotifier(DatabaseClient databaseClient, ObjectMapper objectMapper) {
+        this.databaseClient = databaseClient;
+        this.objectMapper = objectMapper;
+    }
+    
+    /**
+     * 作成を通知
+     * 
+     * @param id ID
+     * @param name 名前
+     * @return 完了
+     */
+    public Mono<Void> created(Long id, String name) {
+        return send(new Event("CREATED", id, null, name));
+    }
+    
+    /**
+     * 更新を通知
+     * 
+     * @param id ID
+     * @param oldName 変更前の名前
+     * @param newName 変更後の名前
+     * @return 完了
+     */
+    public Mono<Void> updated(Long id, String oldName, String newName) {
+        return send(new Event("UPDATED", id, oldName, newName));
+    }
+    
+    /**
+     * 削除を通知
+     * 
+     * @param id ID
+     * @param name 削除された名前
+     * @return 完了
+     */
+    public Mono<Void> deleted(Long id, String name) {
+        return send(new Event("DELETED", id, name, null));
+    }
+    
+    /**
+     * 変更を通知（現在のトランザクション内で実行し、コミット時に配信される）
+     * 
+     * @param event 変更イベント
+     * @return 完了
+     */
+    private Mono<Void> send(Event event) {
+        if (!enabled) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(() -> objectMapper.writeValueAsString(new Notification(nodeId, List.of(event))))
+            .onErrorMap(JsonProcessingException.class, e -> new IllegalStateException("変更通知の変換に失敗しました", e))
+            .flatMap(payload -> databaseClient.sql(NOTIFY_SQL)
+                .bind("channel", channel)
+                .bind("payload", payload)
+                .then());
+    }
+    
+    /**
+     * 通知の内容（サーブレット版のSampleInvalidationBus.Notificationと同じ形式）
+     * 
+     * @param origin 送信元ノードの識別子
+     * @param events 変更イベントのリスト
+     */
+    record Notification(String origin, List<Event> events) {
+    }
+    
+    /**
+     * 変更イベント（サーブレット版のSampleChangedEventと同じ形式）
+     * 
+     * @param type 変更の種類
+     * @param id 変更されたID
+     * @param oldName 変更前の名前（作成の場合はnull）
+     * @param newName 変更後の名前（削除の場合はnull）
+     */
+    record Event(String type, Long id, String oldName, String newName) {
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.app.reactive.repository;
+
+import com.example.app.reactive.entity.SampleEntity;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * サンプルリポジトリインターフェース（R2DBC）
+ * sample_tableテーブルへのノンブロッキングなデータアクセスを提供する
+ */
+@Repository
+public interface SampleRepository extends ReactiveCrudRepository<SampleEntity, Long> {
+    
+    /**
+     * 名前でエンティティを検索
+     * 
+     * @param name 名前
+     * @return ID昇順のエンティティ
+     */
+    Flux<SampleEntity> findByNameOrderByIdAsc(String name);
+    
+    /**
+     * 指定IDより後ろのエンティティをID昇順で取得（キーセットページネーション）
+     * 
+     * @param afterId 境界ID（このIDより大きいIDのみ取得）
+     * @param limit 取得件数の上限
+     * @return ID昇順のエンティティ
+     */
+    @Query("SELECT * FROM sample_table WHERE id > :afterId ORDER BY id ASC LIMIT :limit")
+    Flux<SampleEntity> findNextPage(long afterId, int limit);
+    
+    /**
+     * 指定IDより前のエンティティをID降順で取得（キーセットページネーション）
+     * 
+     * @param beforeId 境界ID（このIDより小さいIDのみ取得）
+     * @param limit 取得件数の上限
+     * @return ID降順のエンティティ
+     */
+    @Query("SELECT * FROM sample_table WHERE id < :beforeId ORDER BY id DESC LIMIT :limit")
+    Flux<SampleEntity> findPreviousPage(long beforeId, int limit);
+    
+    /**
+     * 名前の部分一致またはトライグラム類似度でエンティティを検索（類似度の高い順）
+     * 条件ごとにGiSTインデックスのKNN探索で近い順に最大件数まで取得し、候補を合わせて並べ替える（サーブレット版と同じ）
+     * 
+     * @param pattern LIKEのパターン（特殊文字はエスケープ済み）
+     * @param keyword 検索キーワード
+     * @param limit 取得件数の上限
+     * @return 類似度の高い順のエンティティ
+     */
+    @Query("SELECT id, name, created_at, updated_at, version FROM ("
+        + "(SELECT *, name <-> :keyword AS distance FROM sample_table WHERE name % :keyword "
+        + "ORDER BY name <-> :keyword LIMIT :limit) "
+        + "UNION "
+        + "(SELECT *, name <-> :keyword AS distance FROM sample_table WHERE name ILIKE :pattern ESCAPE '\\' "
+        + "ORDER BY name <-> :keyword LIMIT :limit)"
+        + ") candidates ORDER BY distance, id LIMIT :limit")
+    Flux<SampleEntity> searchByName(String pattern, String keyword, int limit);
+    
+    /**
+     * 前方一致する名前を名前順に取得（オートコンプリート用）
+     * 
+     * @param pattern LIKEのパターン（特殊文字はエスケープ済み）
+     * @param limit 取得件数の上限
+     * @return 名前
+     */
+    @Query("SELECT DISTINCT name FROM sample_table WHERE name LIKE :pattern ESCAPE '\\' ORDER BY name LIMIT :limit")
+    Flux<String> findNamesLike(String pattern, int limit);
+    
+    /**
+     * バージョンが一致する場合のみ名前と更新日時を更新し、バージョンを1加算（compare-and-set）
+     * 変更通知に使用するため、変更前の名前を同じ文で返す
+     * 
+     * @param id ID
+     * @param name 新しい名前
+     * @param version 編集開始時のバージョン
+     * @param updatedAt 更新日時
+     * @return 変更前の名前（不存在または競合で更新しなかった場合は空）
+     */
+    @Query("UPDATE sample_table s SET name = :name, updated_at = :updatedAt, version = s.version + 1 "
+        + "FROM (SELECT id, name FROM sample_table WHERE id = :id) old "
+        + "WHERE s.id = old.id AND s.version = :version RETURNING old.name")
+    Mono<String> update(long id, String name, long version, LocalDateTime updatedAt);
+    
+    /**
+     * IDでエンティティを削除
+     * 変更通知に使用するため、削除した名前を同じ文で返す
+     * 
+     * @param id ID
+     * @return 削除した名前（存在しない場合は空）
+     */
+    @Query("DELETE FROM sample_table WHERE id = :id RETURNING name")
+    Mono<String> deleteReturningName(long id);
+}
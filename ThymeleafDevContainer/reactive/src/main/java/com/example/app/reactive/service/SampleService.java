@@ -0,0 +1,227 @@
+package com.example.app.reactive.service;
+
+import com.example.app.reactive.dto.KeysetPage;
+import com.example.app.reactive.entity.SampleEntity;
+import com.example.app.reactive.event.SampleChangeNotifier;
+import com.example.app.reactive.repository.SampleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * サンプルサービスクラス（リアクティブ版）
+ * サーブレット版のSampleServiceと同じ検証・ページネーション・楽観的排他制御を、ノンブロッキングに実装する
+ * 結果はMono/Fluxで返却し、購読されるまでデータベースにアクセスしない
+ */
+@Service
+public class SampleService {
+    
+    private static final Logger log = LoggerFactory.getLogger(SampleService.class);
+    
+    private final SampleRepository sampleRepository;
+    
+    private final SampleChangeNotifier sampleChangeNotifier;
+    
+    @Value("${app.search.min-length:3}")
+    private int searchMinLength;
+    
+    @Value("${app.search.max-results:50}")
+    private int searchMaxResults;
+    
+    /**
+     * コンストラクタ
+     * 
+     * @param sampleRepository サンプルリポジトリ
+     * @param sampleChangeNotifier 変更通知
+     */
+    public SampleService(SampleRepository sampleRepository, SampleChangeNotifier sampleChangeNotifier) {
+        this.sampleRepository = sampleRepository;
+        this.sampleChangeNotifier = sampleChangeNotifier;
+    }
+    
+    /**
+     * 一覧表示用のエンティティをキーセット方式でページ単位に取得
+     * beforeIdが指定された場合は前ページ、それ以外はafterIdの次ページ（未指定時は先頭ページ）を取得
+     * 
+     * @param afterId 次ページ取得時の境界ID（null可）
+     * @param beforeId 前ページ取得時の境界ID（null可）
+     * @param size 1ページあたりの件数
+     * @return キーセットページ
+     */
+    @Transactional(readOnly = true)
+    public Mono<KeysetPage<SampleEntity>> findPage(Long afterId, Long beforeId, int size) {
+        if (size < 1) {
+            return Mono.error(new IllegalArgumentException("ページサイズは1以上で指定してください"));
+        }
+        
+        // 1件多く取得し、境界の向こう側にまだデータがあるかを判定する
+        if (beforeId != null) {
+            return sampleRepository.findPreviousPage(beforeId, size + 1).collectList().map(fetched -> {
+                List<SampleEntity> rows = new ArrayList<>(fetched);
+                boolean hasPrevious = rows.size() > size;
+                if (hasPrevious) {
+                    rows = rows.subList(0, size);
+                }
+                Collections.reverse(rows);
+                
+                // 次ページは表示した最後の行の後ろから取得する（境界IDの行を読み飛ばさない）
+                Long previousCursor = hasPrevious ? rows.get(0).getId() : null;
+                Long nextCursor = rows.isEmpty() ? null : rows.get(rows.size() - 1).getId();
+                return new KeysetPage<>(rows, previousCursor, nextCursor);
+            });
+        }
+        
+        return sampleRepository.findNextPage(afterId != null ? afterId : 0L, size + 1).collectList().map(fetched -> {
+            List<SampleEntity> rows = fetched;
+            boolean hasNext = rows.size() > size;
+            if (hasNext) {
+                rows = rows.subList(0, size);
+            }
+            
+            Long previousCursor = afterId != null && !rows.isEmpty() ? rows.get(0).getId() : null;
+            Long nextCursor = hasNext ? rows.get(rows.size() - 1).getId() : null;
+            return new KeysetPage<>(rows, previousCursor, nextCursor);
+        });
+    }
+    
+    /**
+     * IDでエンティティを取得
+     * 
+     * @param id ID
+     * @return エンティティ（存在しない場合は空）
+     */
+    @Transactional(readOnly = true)
+    public Mono<SampleEntity> findById(Long id) {
+        return sampleRepository.findById(id);
+    }
+    
+    /**
+     * 名前でエンティティを検索
+     * 
+     * @param name 名前
+     * @return ID昇順のエンティティ
+     */
+    @Transactional(readOnly = true)
+    public Flux<SampleEntity> findByName(String name) {
+        return sampleRepository.findByNameOrderByIdAsc(name);
+    }
+    
+    /**
+     * 名前の部分一致・あいまい検索
+     * トライグラムを抽出できない短いキーワードはインデックスを使用できず全件走査となるため、検索しない
+     * 
+     * @param keyword 検索キーワード
+     * @param limit 最大件数（上限を超える場合は上限値）
+     * @return 類似度の高い順のエンティティ（キーワードが短すぎる場合はIllegalArgumentException）
+     */
+    @Transactional(readOnly = true)
+    public Flux<SampleEntity> searchByName(String keyword, int limit) {
+        String trimmed = keyword == null ? "" : keyword.trim();
+        if (trimmed.codePointCount(0, trimmed.length()) < searchMinLength) {
+            return Flux.error(new IllegalArgumentException("検索キーワードは" + searchMinLength + "文字以上で入力してください"));
+        }
+        
+        return sampleRepository.searchByName("%" + escapeLike(trimmed) + "%", trimmed,
+            Math.max(1, Math.min(limit, searchMaxResults)));
+    }
+    
+    /**
+     * 前方一致する名前を名前順に取得（オートコンプリート用）
+     * 
+     * @param prefix 前方一致させる文字列
+     * @param limit 最大件数
+     * @return 名前
+     */
+    @Transactional(readOnly = true)
+    public Flux<String> suggestNames(String prefix, int limit) {
+        return sampleRepository.findNamesLike(escapeLike(prefix) + "%", limit);
+    }
+    
+    /**
+     * 新しいエンティティを作成
+     * 
+     * @param name 名前
+     * @return 作成されたエンティティ
+     */
+    @Transactional
+    public Mono<SampleEntity> create(String name) {
+        log.info("新しいエンティティを作成: name={}", name);
+        
+        // ビジネスロジック: 名前の検証
+        if (name == null || name.trim().isEmpty()) {
+            return Mono.error(new IllegalArgumentException("名前は必須です"));
+        }
+        
+        return sampleRepository.save(new SampleEntity(name.trim(), LocalDateTime.now()))
+            .flatMap(saved -> sampleChangeNotifier.created(saved.getId(), saved.getName()).thenReturn(saved))
+            .doOnNext(saved -> log.info("エンティティを作成しました: id={}", saved.getId()));
+    }
+    
+    /**
+     * エンティティを更新
+     * 編集開始時のバージョンを条件とするUPDATE文1回で更新し、他のトランザクションが先に更新していた場合は競合とする
+     * 
+     * @param id ID
+     * @param name 新しい名前
+     * @param version 編集開始時のバージョン
+     * @return 完了（競合した場合はOptimisticLockingFailureException）
+     */
+    @Transactional
+    public Mono<Void> update(Long id, String name, Long version) {
+        log.info("エンティティを更新: id={}, name={}, version={}", id, name, version);
+        
+        // ビジネスロジック: 名前とバージョンの検証
+        if (name == null || name.trim().isEmpty()) {
+            return Mono.error(new IllegalArgumentException("名前は必須です"));
+        }
+        if (version == null) {
+            return Mono.error(new IllegalArgumentException("バージョンは必須です"));
+        }
+        
+        // バージョンが一致する場合のみ更新（更新しなかった場合は不存在または競合）
+        String newName = name.trim();
+        return sampleRepository.update(id, newName, version, LocalDateTime.now())
+            .flatMap(oldName -> sampleChangeNotifier.updated(id, oldName, newName).thenReturn(true))
+            .switchIfEmpty(sampleRepository.existsById(id)
+                .flatMap(exists -> Mono.<Boolean>error(exists
+                    ? new OptimisticLockingFailureException(
+                        "他のユーザーによって更新されています。最新の内容を確認してから再度更新してください: id=" + id)
+                    : new RuntimeException("エンティティが見つかりません: id=" + id))))
+            .then()
+            .doOnSuccess(ignored -> log.info("エンティティを更新しました: id={}", id));
+    }
+    
+    /**
+     * エンティティを削除
+     * 
+     * @param id ID
+     * @return 完了
+     */
+    @Transactional
+    public Mono<Void> delete(Long id) {
+        log.info("エンティティを削除: id={}", id);
+        return sampleRepository.deleteReturningName(id)
+            .flatMap(name -> sampleChangeNotifier.deleted(id, name))
+            .doOnSuccess(ignored -> log.info("エンティティを削除しました: id={}", id));
+    }
+    
+    /**
+     * LIKE検索の特殊文字（\、%、_）をエスケープ
+     * 
+     * @param value 検索文字列
+     * @return エスケープ済みの文字列
+     */
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
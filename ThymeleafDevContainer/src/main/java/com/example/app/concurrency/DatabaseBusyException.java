@@ -0,0 +1,19 @@
+package com.example.app.concurrency;
+
+/**
+ * データベース処理の同時実行数が上限に達し、待機時間内に実行枠を確保できなかった場合の例外
+ * 呼び出し元は時間をおいて再試行する
+ */
+public class DatabaseBusyException extends RuntimeException {
+    
+    private static final long serialVersionUID = 1L;
+    
+    /**
+     * コンストラクタ
+     * 
+     * @param message メッセージ
+     */
+    public DatabaseBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.app.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import com.example.app.service.SampleService;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * サービスクラスのデータベース処理の同時実行数を制限するアスペクト
+ * 仮想スレッドではリクエストごとにスレッドが生成されるため、同時リクエスト数を増やすと接続プールの取得待ちが増え、
+ * 待機中のスレッドが接続タイムアウトまで滞留する
+ * 公平なセマフォで実行枠を接続プールの大きさ以下に制限し、到着順に待機させて待ち時間をメトリクスとして記録する
+ * トランザクションの開始（接続の取得）より前に実行枠を確保するよう、トランザクションのアドバイスより外側で実行する
+ * 件数・統計・エクスポート・取り込みなど接続を使用する全てのサービス（serviceパッケージの*Service）を対象とする
+ * 接続はサービスのメソッドの終了時に返却される前提のため、open-in-viewを無効にして使用する
+ * （有効な場合、接続はビューの描画が終わるまで保持され、実行枠を返却した後も接続が使用され続ける）
+ * 書き込みバッファが有効な場合、作成（create）は書き込みスレッドの1接続でまとめて書き込まれ、呼び出し元は完了を待つだけのため制限しない
+ * （実行枠を確保したまま待機すると、1回に書き込める件数が実行枠の数までに制限されてしまう）
+ * app.db-concurrency.enabled=trueの場合のみ有効となる
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "app.db-concurrency", name = "enabled", havingValue = "true")
+public class DatabaseConcurrencyLimiter {
+    
+    /**
+     * 実行枠を確保済みの呼び出しの深さ（サービス内から別のサービスを呼び出す場合に二重に確保しない）
+     */
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+    
+    private static final String CREATE_METHOD = "create";
+    
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+    private final Timer waitTimer;
+    private final Counter rejected;
+    
+    @Value("${app.write-buffer.enabled:false}")
+    private boolean writeBufferEnabled;
+    
+    /**
+     * コンストラクタ
+     * 
+     * @param maxConcurrent 同時実行数の上限
+     * @param acquireTimeout 実行枠の待機時間の上限
+     * @param meterRegistry メトリクスレジストリ
+     */
+    public DatabaseConcurrencyLimiter(@Value("${app.db-concurrency.max-concurrent:10}") int maxConcurrent,
+                                      @Value("${app.db-concurrency.acquire-timeout:5s}") Duration acquireTimeout,
+                                      MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.acquireTimeout = acquireTimeout;
+        this.waitTimer = Timer.builder("app.db.concurrency.wait")
+            .description("データベース処理の実行枠の待ち時間")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.rejected = Counter.builder("app.db.concurrency.rejected")
+            .description("待機時間内に実行枠を確保できなかった呼び出し数")
+            .register(meterRegistry);
+        Gauge.builder("app.db.concurrency.queued", permits, Semaphore::getQueueLength)
+            .description("実行枠を待機しているスレッド数（概算）")
+            .register(meterRegistry);
+        Gauge.builder("app.db.concurrency.in-use", permits, semaphore -> maxConcurrent - semaphore.availablePermits())
+            .description("使用中の実行枠の数")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * 実行枠を確保してからメソッドを実行
+     * 
+     * @param joinPoint 実行対象のメソッド
+     * @return メソッドの戻り値
+     * @throws Throwable メソッドが送出した例外
+     */
+    @Around("execution(public * com.example.app.service.*Service.*(..))")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        int[] depth = DEPTH.get();
+        if (depth[0] > 0) {
+            return proceed(joinPoint, depth);
+        }
+        if (writeBufferEnabled && joinPoint.getTarget() instanceof SampleService
+            && CREATE_METHOD.equals(joinPoint.getSignature().getName())) {
+            return joinPoint.proceed();
+        }
+        
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DatabaseBusyException("データベース処理の待機中に割り込まれました");
+        }
+        waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (!acquired) {
+            rejected.increment();
+            throw new DatabaseBusyException("データベースが混み合っています。しばらく時間をおいてから再度お試しください。");
+        }
+        
+        try {
+            return proceed(joinPoint, depth);
+        } finally {
+            permits.release();
+        }
+    }
+    
+    private static Object proceed(ProceedingJoinPoint joinPoint, int[] depth) throws Throwable {
+        depth[0]++;
+        try {
+            return joinPoint.proceed();
+        } finally {
+            depth[0]--;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.app.concurrency;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 仮想スレッドのピン留めの検出結果を公開するActuatorエンドポイント（/actuator/pinning）
+ */
+@Component
+@Endpoint(id = "pinning")
+@ConditionalOnProperty(prefix = "app.pinning-monitor", name = "enabled", havingValue = "true")
+public class PinningEndpoint {
+    
+    private final VirtualThreadPinningMonitor monitor;
+    
+    /**
+     * コンストラクタ
+     * 
+     * @param monitor 仮想スレッドのピン留めの検出
+     */
+    public PinningEndpoint(VirtualThreadPinningMonitor monitor) {
+        this.monitor = monitor;
+    }
+    
+    /**
+     * 検出結果を取得
+     * 
+     * @return 検出件数の合計と直近のイベント
+     */
+    @ReadOperation
+    public VirtualThreadPinningMonitor.PinningReport pinning() {
+        return monitor.report();
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.app.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 仮想スレッドのピン留めの検出
+ * synchronizedブロック内やネイティブメソッド内でブロックした仮想スレッドは、キャリアスレッド（プラットフォームスレッド）を占有し続ける
+ * キャリアスレッドはCPUコア数程度しかないため、ピン留めが多発すると仮想スレッドで同時リクエスト数を増やしても処理が進まなくなる
+ * JFRのjdk.VirtualThreadPinnedイベントをプロセス内でストリーミング受信し、発生箇所ごとの件数をメトリクスとして記録する
+ * 直近のイベントはスタックトレース付きで保持し、Actuatorのpinningエンドポイントで参照できる
+ * app.pinning-monitor.enabled=trueの場合のみ有効となる
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.pinning-monitor", name = "enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+    
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    
+    private static final String EVENT_NAME = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "com.example.app.";
+    
+    private final MeterRegistry meterRegistry;
+    private final Timer pinnedDuration;
+    private final AtomicLong total = new AtomicLong();
+    private final Deque<PinnedEvent> recent = new ArrayDeque<>();
+    
+    private volatile RecordingStream stream;
+    
+    @Value("${app.pinning-monitor.threshold:20ms}")
+    private Duration threshold;
+    
+    @Value("${app.pinning-monitor.recent-events:50}")
+    private int recentEvents;
+    
+    /**
+     * コンストラクタ
+     * 
+     * @param meterRegistry メトリクスレジストリ
+     */
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.pinnedDuration = Timer.builder("app.vthreads.pinned.duration")
+            .description("仮想スレッドがキャリアスレッドにピン留めされた時間")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * 検出結果を取得
+     * 
+     * @return 検出件数の合計と直近のイベント（新しい順）
+     */
+    public PinningReport report() {
+        List<PinnedEvent> events;
+        synchronized (recent) {
+            events = new ArrayList<>(recent);
+        }
+        return new PinningReport(stream != null, threshold, total.get(), events);
+    }
+    
+    @Override
+    public void start() {
+        if (!FlightRecorder.isAvailable()) {
+            log.warn("JFRが利用できないため、仮想スレッドのピン留めを検出できません");
+            return;
+        }
+        RecordingStream created = new RecordingStream();
+        created.enable(EVENT_NAME).withThreshold(threshold).withStackTrace();
+        created.onEvent(EVENT_NAME, this::onPinned);
+        created.startAsync();
+        stream = created;
+        log.info("仮想スレッドのピン留めの検出を開始しました: threshold={}ms", threshold.toMillis());
+    }
+    
+    @Override
+    public void stop() {
+        RecordingStream current = stream;
+        if (current == null) {
+            return;
+        }
+        stream = null;
+        current.close();
+        log.info("仮想スレッドのピン留めの検出を停止しました");
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+    
+    /**
+     * ピン留めイベントを記録
+     * 
+     * @param event jdk.VirtualThreadPinnedイベント
+     */
+    private void onPinned(RecordedEvent event) {
+        List<String> frames = frames(event.getStackTrace());
+        String location = location(frames);
+        
+        total.incrementAndGet();
+        pinnedDuration.record(event.getDuration());
+        Counter.builder("app.vthreads.pinned")
+            .description("仮想スレッドがキャリアスレッドにピン留めされた回数")
+            .tag("location", location)
+            .register(meterRegistry)
+            .increment();
+        
+        PinnedEvent pinned = new PinnedEvent(event.getStartTime(), event.getDuration(),
+            event.getThread() != null ? event.getThread().getJavaName() : null, location, frames);
+        synchronized (recent) {
+            recent.addFirst(pinned);
+            while (recent.size() > recentEvents) {
+                recent.removeLast();
+            }
+        }
+        log.warn("仮想スレッドがピン留めされました: duration={}ms, location={}", event.getDuration().toMillis(), location);
+    }
+    
+    /**
+     * スタックトレースを文字列のリストに変換
+     * 
+     * @param stackTrace スタックトレース（取得できない場合はnull）
+     * @return 「クラス名.メソッド名:行番号」のリスト（呼び出し先から順）
+     */
+    private static List<String> frames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return List.of();
+        }
+        List<String> frames = new ArrayList<>();
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (frame.isJavaFrame()) {
+                frames.add(frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                    + ":" + frame.getLineNumber());
+            }
+        }
+        return frames;
+    }
+    
+    /**
+     * ピン留めの発生箇所を特定
+     * アプリケーションのフレームを優先し、なければJDK以外の最初のフレーム（ライブラリ）とする
+     * メトリクスのタグとするため行番号は含めない
+     * 
+     * @param frames スタックトレース
+     * @return 発生箇所（「クラス名.メソッド名」）
+     */
+    private static String location(List<String> frames) {
+        String library = null;
+        for (String frame : frames) {
+            if (frame.startsWith(APP_PACKAGE)) {
+                return withoutLineNumber(frame);
+            }
+            if (library == null && !frame.startsWith("java.") && !frame.startsWith("jdk.") && !frame.startsWith("sun.")) {
+                library = frame;
+            }
+        }
+        return library != null ? withoutLineNumber(library) : "unknown";
+    }
+    
+    private static String withoutLineNumber(String frame) {
+        return frame.substring(0, frame.lastIndexOf(':'));
+    }
+    
+    /**
+     * ピン留めイベント
+     * 
+     * @param startTime 発生日時
+     * @param duration ピン留めされた時間
+     * @param threadName スレッド名
+     * @param location 発生箇所
+     * @param stackTrace スタックトレース
+     */
+    public record PinnedEvent(Instant startTime, Duration duration, String threadName, String location,
+                              List<String> stackTrace) {
+    }
+    
+    /**
+     * 検出結果
+     * 
+     * @param active 検出中か
+     * @param threshold 記録するピン留め時間の下限
+     * @param total 起動後の検出件数
+     * @param recent 直近のイベント（新しい順）
+     */
+    public record PinningReport(boolean active, Duration threshold, long total, List<PinnedEvent> recent) {
+    }
+}
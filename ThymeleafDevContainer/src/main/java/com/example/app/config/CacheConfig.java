@@ -0,0 +1,101 @@
+package com.example.app.config;
+
+import com.example.app.entity.SampleEntity;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.JCacheManagerCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.jcache.JCacheCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * キャッシュ設定クラス
+ * Caffeineを実装とするJCacheのCacheManagerを1つ用意し、
+ * Hibernateの第2レベルキャッシュとSpringのキャッシュ抽象化の両方で共有する
+ * CacheManagerに登録したキャッシュはActuatorのcache.*メトリクス（ヒット・ミス件数など）として公開される
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    
+    private static final Logger log = LoggerFactory.getLogger(CacheConfig.class);
+    
+    /** 名前検索結果のキャッシュ名（キーは検索する名前） */
+    public static final String SAMPLES_BY_NAME_CACHE = "samplesByName";
+    
+    /** 件数のキャッシュ名（キーは全件数が"all"、検索結果の件数が"name:"+検索キーワード） */
+    public static final String SAMPLE_COUNTS_CACHE = "sampleCounts";
+    
+    @Value("${app.cache.sample-entity.max-size:10000}")
+    private long sampleEntityMaxSize;
+    
+    @Value("${app.cache.sample-entity.ttl:10m}")
+    private Duration sampleEntityTtl;
+    
+    @Value("${app.cache.samples-by-name.max-size:1000}")
+    private long samplesByNameMaxSize;
+    
+    @Value("${app.cache.samples-by-name.ttl:10m}")
+    private Duration samplesByNameTtl;
+    
+    @Value("${app.cache.sample-counts.max-size:1000}")
+    private long sampleCountsMaxSize;
+    
+    @Value("${app.cache.sample-counts.ttl:30s}")
+    private Duration sampleCountsTtl;
+    
+    /**
+     * キャッシュの作成
+     * Hibernateは存在しないリージョンを作成しないため（missing_cache_strategy: fail）、ここで全リージョンを定義する
+     * 
+     * @return JCacheManagerのカスタマイザー
+     */
+    @Bean
+    public JCacheManagerCustomizer cacheManagerCustomizer() {
+        return cacheManager -> {
+            createCache(cacheManager, SampleEntity.CACHE_REGION, sampleEntityMaxSize, sampleEntityTtl);
+            createCache(cacheManager, SAMPLES_BY_NAME_CACHE, samplesByNameMaxSize, samplesByNameTtl);
+            createCache(cacheManager, SAMPLE_COUNTS_CACHE, sampleCountsMaxSize, sampleCountsTtl);
+        };
+    }
+    
+    /**
+     * Hibernateの第2レベルキャッシュにSpring管理のCacheManagerを使用させる
+     * 
+     * @param cacheManager SpringのJCacheCacheManager
+     * @return Hibernateプロパティのカスタマイザー
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernateSecondLevelCacheCustomizer(JCacheCacheManager cacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, cacheManager.getCacheManager());
+    }
+    
+    /**
+     * サイズ上限と有効期限を指定してキャッシュを作成
+     * キャッシュ値はコピーせず参照のまま保持し、統計情報を有効にする
+     * 
+     * @param cacheManager JCacheのCacheManager
+     * @param name キャッシュ名
+     * @param maxSize 最大エントリー数
+     * @param ttl 書き込みからの有効期限
+     */
+    static void createCache(CacheManager cacheManager, String name, long maxSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        configuration.setManagementEnabled(true);
+        cacheManager.createCache(name, configuration);
+        log.info("キャッシュを作成しました: name={}, maxSize={}, ttl={}", name, maxSize, ttl);
+    }
+}
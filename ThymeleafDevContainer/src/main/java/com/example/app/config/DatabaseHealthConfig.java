@@ -0,0 +1,23 @@
+package com.example.app.config;
+
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * データベースヘルスチェック設定クラス
+ * EntityManagerFactoryの初期化（JDBCメタデータの取得）を、DatabaseHealthIndicatorが接続を確認するまで待たせる
+ */
+@Configuration
+public class DatabaseHealthConfig {
+    
+    /**
+     * EntityManagerFactoryがdbHealthIndicatorに依存するよう設定
+     * 
+     * @return 依存関係を追加するBeanFactoryPostProcessor
+     */
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor entityManagerFactoryDependsOnDatabase() {
+        return new EntityManagerFactoryDependsOnPostProcessor("dbHealthIndicator");
+    }
+}
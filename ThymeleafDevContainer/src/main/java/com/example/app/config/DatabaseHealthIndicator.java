@@ -0,0 +1,259 @@
+package com.example.app.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * データベースのヘルスインジケーター（db）
+ * Spring Boot標準のインジケーターはヘルスチェックのたびに接続プールから接続を借りてクエリを実行するため、
+ * 高負荷時にはプローブがアプリケーションの処理と接続を奪い合う
+ * 接続プールとは別の専用接続をバックグラウンドで定期的に検証し、ヘルスチェックには最後の検証結果と経過時間を返す
+ * 接続プールの状態（使用中・待機中の接続数）はプールの統計から取得し、データベースへは問い合わせない
+ * 起動時はデータベースに接続できるまで待機時間を倍にしながら再試行し、上限時間を超えた場合に起動を失敗させる
+ */
+@Component("dbHealthIndicator")
+public class DatabaseHealthIndicator implements HealthIndicator, SmartLifecycle {
+    
+    private static final Logger log = LoggerFactory.getLogger(DatabaseHealthIndicator.class);
+    
+    private final DataSourceProperties dataSourceProperties;
+    private final DataSource dataSource;
+    
+    private volatile CheckResult lastResult;
+    private volatile boolean running;
+    private ScheduledExecutorService executor;
+    private Connection connection;
+    
+    @Value("${app.db-health.interval:10s}")
+    private Duration interval;
+    
+    @Value("${app.db-health.timeout:2s}")
+    private Duration timeout;
+    
+    @Value("${app.db-health.stale-after:30s}")
+    private Duration staleAfter;
+    
+    @Value("${app.db-health.startup-timeout:5m}")
+    private Duration startupTimeout;
+    
+    @Value("${app.db-health.startup-retry-delay:1s}")
+    private Duration startupRetryDelay;
+    
+    @Value("${app.db-health.startup-max-retry-delay:30s}")
+    private Duration startupMaxRetryDelay;
+    
+    /**
+     * コンストラクタ
+     * 
+     * @param dataSourceProperties データソース設定（専用接続の接続先）
+     * @param dataSource データソース（接続プールの統計の取得用）
+     */
+    public DatabaseHealthIndicator(DataSourceProperties dataSourceProperties, DataSource dataSource) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.dataSource = dataSource;
+    }
+    
+    /**
+     * データベースに接続できるまで待機
+     * EntityManagerFactoryの初期化より前に実行される（DatabaseHealthConfig）
+     * 
+     * @throws IllegalStateException 上限時間内に接続できなかった場合
+     */
+    @PostConstruct
+    public void awaitDatabase() {
+        long deadline = System.nanoTime() + startupTimeout.toNanos();
+        Duration delay = startupRetryDelay;
+        for (int attempt = 1; ; attempt++) {
+            CheckResult result = check();
+            lastResult = result;
+            if (result.up()) {
+                log.info("データベース接続成功");
+                log.info("データベースURL: {}", dataSourceProperties.determineUrl());
+                log.info("データベース製品名: {}", result.product());
+                log.info("データベースバージョン: {}", result.version());
+                return;
+            }
+            if (System.nanoTime() + delay.toNanos() - deadline > 0) {
+                log.error("データベース接続失敗: {}", result.error());
+                throw new IllegalStateException(
+                    "データベースに接続できません。データベースコンテナが起動しているか確認してください。");
+            }
+            log.warn("データベースに接続できません。{}ms後に再試行します: 試行回数={}, 原因={}",
+                delay.toMillis(), attempt, result.error());
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("データベース接続の待機中に割り込まれました", e);
+            }
+            delay = delay.multipliedBy(2).compareTo(startupMaxRetryDelay) > 0 ? startupMaxRetryDelay : delay.multipliedBy(2);
+        }
+    }
+    
+    /**
+     * 最後の検証結果を返却（データベースへは問い合わせない）
+     * 検証結果が古い場合は、バックグラウンドの検証が停止しているとみなしてDOWNとする
+     * 
+     * @return ヘルス情報
+     */
+    @Override
+    public Health health() {
+        CheckResult result = lastResult;
+        if (result == null) {
+            return Health.unknown().build();
+        }
+        Duration age = Duration.between(result.checkedAt(), Instant.now());
+        boolean stale = age.compareTo(staleAfter) > 0;
+        Health.Builder builder = Health.status(result.up() && !stale ? Status.UP : Status.DOWN)
+            .withDetail("database", result.product() != null ? result.product() : "unknown")
+            .withDetail("checkedAt", result.checkedAt().toString())
+            .withDetail("ageMs", age.toMillis())
+            .withDetail("stale", stale)
+            .withDetail("latencyMs", result.latency().toMillis());
+        if (result.error() != null) {
+            builder.withDetail("error", result.error());
+        }
+        HikariPoolMXBean pool = poolStatistics();
+        if (pool != null) {
+            builder.withDetail("pool.active", pool.getActiveConnections())
+                .withDetail("pool.idle", pool.getIdleConnections())
+                .withDetail("pool.pending", pool.getThreadsAwaitingConnection())
+                .withDetail("pool.total", pool.getTotalConnections());
+        }
+        return builder.build();
+    }
+    
+    @Override
+    public void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("db-health").daemon(true).factory());
+        executor.scheduleWithFixedDelay(() -> lastResult = check(), 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        running = true;
+    }
+    
+    @Override
+    public void stop() {
+        running = false;
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        closeConnection();
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+    
+    /**
+     * 専用接続を検証
+     * 接続がない場合や検証に失敗した場合は接続し直す
+     * 
+     * @return 検証結果
+     */
+    private synchronized CheckResult check() {
+        long start = System.nanoTime();
+        try {
+            if (connection == null || !connection.isValid(timeoutSeconds())) {
+                closeConnection();
+                connection = connect();
+            }
+            DatabaseMetaData metaData = connection.getMetaData();
+            return new CheckResult(true, Instant.now(), Duration.ofNanos(System.nanoTime() - start),
+                metaData.getDatabaseProductName(), metaData.getDatabaseProductVersion(), null);
+        } catch (SQLException | RuntimeException e) {
+            closeConnection();
+            return new CheckResult(false, Instant.now(), Duration.ofNanos(System.nanoTime() - start),
+                lastResult != null ? lastResult.product() : null, null, e.getMessage());
+        }
+    }
+    
+    /**
+     * 接続プールを経由しない専用接続を確立
+     * 
+     * @return 接続
+     * @throws SQLException 接続に失敗した場合
+     */
+    private Connection connect() throws SQLException {
+        Properties properties = new Properties();
+        if (dataSourceProperties.determineUsername() != null) {
+            properties.setProperty("user", dataSourceProperties.determineUsername());
+        }
+        if (dataSourceProperties.determinePassword() != null) {
+            properties.setProperty("password", dataSourceProperties.determinePassword());
+        }
+        properties.setProperty("connectTimeout", String.valueOf(timeoutSeconds()));
+        properties.setProperty("socketTimeout", String.valueOf(timeoutSeconds()));
+        properties.setProperty("ApplicationName", "db-health");
+        return DriverManager.getConnection(dataSourceProperties.determineUrl(), properties);
+    }
+    
+    private synchronized void closeConnection() {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("ヘルスチェック用の接続の切断に失敗しました: {}", e.getMessage());
+        }
+        connection = null;
+    }
+    
+    private int timeoutSeconds() {
+        return (int) Math.max(1, timeout.toSeconds());
+    }
+    
+    /**
+     * 接続プールの統計を取得
+     * 
+     * @return 統計（HikariCPでない場合やプールが未初期化の場合はnull）
+     */
+    private HikariPoolMXBean poolStatistics() {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class)
+                ? dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean() : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * 検証結果
+     * 
+     * @param up 接続・検証に成功した場合はtrue
+     * @param checkedAt 検証日時
+     * @param latency 検証に要した時間
+     * @param product データベース製品名
+     * @param version データベースバージョン
+     * @param error 失敗理由（成功時はnull）
+     */
+    private record CheckResult(boolean up, Instant checkedAt, Duration latency, String product, String version,
+                               String error) {
+    }
+}
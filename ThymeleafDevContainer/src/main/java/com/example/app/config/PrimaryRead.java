@@ -0,0 +1,18 @@
+package com.example.app.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 読み取り専用トランザクションのままプライマリから読み込むメソッドを示すアノテーション
+ * 読み込んだ結果をキャッシュへ格納する場合など、遅延したリードレプリカの古い行を読み込んではならない処理に付与する
+ * リードレプリカを使用しない場合は何もしない
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface PrimaryRead {
+}
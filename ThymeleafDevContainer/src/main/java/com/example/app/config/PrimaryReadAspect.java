@@ -0,0 +1,35 @@
+package com.example.app.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link PrimaryRead}を付与したメソッドの読み込みをプライマリへ振り分けるアスペクト
+ * 接続の取得時に振り分け先が決まるよう、トランザクションのアドバイスより外側で実行する
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class PrimaryReadAspect {
+    
+    /**
+     * プライマリへ振り分けてからメソッドを実行
+     * 
+     * @param joinPoint 実行対象のメソッド
+     * @return メソッドの戻り値
+     * @throws Throwable メソッドが送出した例外
+     */
+    @Around("@annotation(com.example.app.config.PrimaryRead)")
+    public Object routeToPrimary(ProceedingJoinPoint joinPoint) throws Throwable {
+        boolean previous = ReadReplicaRoutingDataSource.forcePrimary(true);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ReadReplicaRoutingDataSource.forcePrimary(previous);
+        }
+    }
+}
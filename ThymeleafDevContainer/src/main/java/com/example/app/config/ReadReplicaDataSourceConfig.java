@@ -0,0 +1,115 @@
+package com.example.app.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * リードレプリカ振り分け設定クラス
+ * app.datasource.replica.enabled=trueの場合のみ有効となり、
+ * 読み取り専用トランザクション（@Transactional(readOnly = true)）をレプリカへ振り分ける
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+    
+    private static final Logger log = LoggerFactory.getLogger(ReadReplicaDataSourceConfig.class);
+    
+    @Value("${app.datasource.replica.urls:}")
+    private String replicaUrls;
+    
+    @Value("${app.datasource.replica.username:${spring.datasource.username:}}")
+    private String replicaUsername;
+    
+    @Value("${app.datasource.replica.password:${spring.datasource.password:}}")
+    private String replicaPassword;
+    
+    @Value("${app.datasource.replica.maximum-pool-size:10}")
+    private int replicaMaximumPoolSize;
+    
+    @Value("${app.datasource.replica.validation-timeout-seconds:2}")
+    private int validationTimeoutSeconds;
+    
+    /**
+     * プライマリのデータソース
+     * spring.datasource.*およびspring.datasource.hikari.*の設定をそのまま使用する
+     * 
+     * @param properties データソース設定
+     * @return プライマリのデータソース
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+    
+    /**
+     * 読み書き振り分けデータソース
+     * 
+     * @param primaryDataSource プライマリのデータソース
+     * @param properties データソース設定
+     * @return 振り分けデータソース
+     */
+    @Bean
+    public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                                     DataSourceProperties properties) {
+        List<DataSource> replicas = new ArrayList<>();
+        List<String> urls = Arrays.stream(replicaUrls.split(","))
+            .map(String::trim)
+            .filter(StringUtils::hasText)
+            .toList();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + i);
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setJdbcUrl(urls.get(i));
+            replica.setUsername(replicaUsername);
+            replica.setPassword(replicaPassword);
+            replica.setMaximumPoolSize(replicaMaximumPoolSize);
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        log.info("リードレプリカ振り分けを有効化: レプリカ数={}", replicas.size());
+        return new ReadReplicaRoutingDataSource(primaryDataSource, replicas);
+    }
+    
+    /**
+     * アプリケーションが使用するデータソース
+     * 接続の取得を最初のSQL実行まで遅延させ、トランザクションの読み取り専用フラグが確定してから振り分ける
+     * 
+     * @param routingDataSource 振り分けデータソース
+     * @return データソース
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+    
+    /**
+     * レプリカの死活監視
+     * 
+     * @param routingDataSource 振り分けデータソース
+     * @return 死活監視コンポーネント
+     */
+    @Bean
+    public ReadReplicaHealthMonitor readReplicaHealthMonitor(ReadReplicaRoutingDataSource routingDataSource) {
+        return new ReadReplicaHealthMonitor(routingDataSource, validationTimeoutSeconds);
+    }
+}
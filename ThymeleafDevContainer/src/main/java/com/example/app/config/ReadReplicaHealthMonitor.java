@@ -0,0 +1,32 @@
+package com.example.app.config;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * リードレプリカの死活監視コンポーネント
+ * 異常なレプリカは振り分け対象から除外され、復旧後に自動的に戻される
+ */
+public class ReadReplicaHealthMonitor {
+    
+    private final ReadReplicaRoutingDataSource routingDataSource;
+    private final int validationTimeoutSeconds;
+    
+    /**
+     * コンストラクタ
+     * 
+     * @param routingDataSource 振り分けデータソース
+     * @param validationTimeoutSeconds 接続検証のタイムアウト（秒）
+     */
+    public ReadReplicaHealthMonitor(ReadReplicaRoutingDataSource routingDataSource, int validationTimeoutSeconds) {
+        this.routingDataSource = routingDataSource;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+    }
+    
+    /**
+     * レプリカの死活を定期的に確認
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replica.health-check-interval:5000}")
+    public void checkReplicas() {
+        routingDataSource.checkReplicas(validationTimeoutSeconds);
+    }
+}
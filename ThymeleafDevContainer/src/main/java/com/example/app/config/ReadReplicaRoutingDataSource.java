@@ -0,0 +1,174 @@
+package com.example.app.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 読み取り専用トランザクションをリードレプリカへ振り分けるデータソース
+ * readOnly = trueのトランザクションでは正常なレプリカをラウンドロビンで選択し、
+ * それ以外（書き込み・トランザクション外）は常にプライマリを使用する
+ * 正常なレプリカが存在しない場合はプライマリへフォールバックする
+ * 読み取り専用のままプライマリから読み込む必要がある処理（キャッシュへ格納する読み込みなど）は、
+ * {@link PrimaryRead}を付与してプライマリへ振り分ける
+ */
+public class ReadReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+    
+    private static final Logger log = LoggerFactory.getLogger(ReadReplicaRoutingDataSource.class);
+    
+    /** 現在のスレッドの読み込みをプライマリへ振り分けるか */
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+    
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final AtomicInteger counter = new AtomicInteger();
+    
+    /**
+     * コンストラクタ
+     * 
+     * @param primary プライマリのデータソース
+     * @param replicas レプリカのデータソース
+     */
+    public ReadReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        return determineTarget().getConnection();
+    }
+    
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return determineTarget().getConnection(username, password);
+    }
+    
+    /**
+     * 接続先のデータソースを決定
+     * 
+     * @return 接続先のデータソース
+     */
+    DataSource determineTarget() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || PRIMARY_FORCED.get() != null) {
+            return primary;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(counter.getAndIncrement(), size == 0 ? 1 : size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy.get()) {
+                return replica.dataSource;
+            }
+        }
+        return primary;
+    }
+    
+    /**
+     * 現在のスレッドの読み込みをプライマリへ振り分けるかを設定
+     * 入れ子の呼び出しで元に戻せるよう、変更前の設定を返す
+     * 
+     * @param forced プライマリへ振り分ける場合はtrue
+     * @return 変更前の設定
+     */
+    public static boolean forcePrimary(boolean forced) {
+        boolean previous = PRIMARY_FORCED.get() != null;
+        if (forced) {
+            PRIMARY_FORCED.set(Boolean.TRUE);
+        } else {
+            PRIMARY_FORCED.remove();
+        }
+        return previous;
+    }
+    
+    /**
+     * 全レプリカの死活を確認し、正常・異常の状態を更新
+     * 
+     * @param validationTimeoutSeconds 接続検証のタイムアウト（秒）
+     */
+    public void checkReplicas(int validationTimeoutSeconds) {
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(i);
+            boolean healthy;
+            try (Connection conn = replica.dataSource.getConnection()) {
+                healthy = conn.isValid(validationTimeoutSeconds);
+            } catch (SQLException e) {
+                healthy = false;
+            }
+            boolean previous = replica.healthy.getAndSet(healthy);
+            if (previous != healthy) {
+                if (healthy) {
+                    log.info("リードレプリカが復旧しました: index={}", i);
+                } else {
+                    log.warn("リードレプリカを振り分け対象から除外しました: index={}", i);
+                }
+            }
+        }
+    }
+    
+    /**
+     * 振り分け先のデータソースを取得
+     * LazyConnectionDataSourceProxy経由ではトランザクション外の接続は全てプライマリとなるため、
+     * 各コネクションプールを直接操作する場合（起動時のウォームアップなど）に使用する
+     * 
+     * @return プライマリと正常なレプリカのデータソース（プライマリ、レプリカの順）
+     */
+    public List<DataSource> targetDataSources() {
+        List<DataSource> targets = new ArrayList<>(replicas.size() + 1);
+        targets.add(primary);
+        for (Replica replica : replicas) {
+            if (replica.healthy.get()) {
+                targets.add(replica.dataSource);
+            }
+        }
+        return targets;
+    }
+    
+    /**
+     * 正常なレプリカの数を取得
+     * 
+     * @return 正常なレプリカの数
+     */
+    public int healthyReplicaCount() {
+        return (int) replicas.stream().filter(replica -> replica.healthy.get()).count();
+    }
+    
+    /**
+     * レプリカのコネクションプールを閉じる
+     * プライマリはSpringのBeanとして別途破棄される
+     */
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("リードレプリカのクローズに失敗: {}", e.getMessage());
+                }
+            }
+        }
+    }
+    
+    /**
+     * レプリカとその死活状態
+     */
+    private static final class Replica {
+        
+        private final DataSource dataSource;
+        private final AtomicBoolean healthy = new AtomicBoolean(true);
+        
+        Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+}
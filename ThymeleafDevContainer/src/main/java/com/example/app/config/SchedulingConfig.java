@@ -0,0 +1,13 @@
+package com.example.app.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * スケジューリング設定クラス
+ * バックグラウンドで定期実行する処理（@Scheduled）を有効化
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,371 @@
+package com.example.app.config;
+
+import com.example.app.dto.SampleRecord;
+import com.example.app.repository.SampleRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.exceptions.TemplateEngineException;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 起動時のウォームアップ
+ * デプロイ直後は、接続プールの接続確立、テンプレートの解析、Hibernateのクエリ解析、JITコンパイルが最初のリクエストで発生し、応答が遅くなる
+ * 起動完了後に接続プール（リードレプリカを使用する場合はプライマリと各レプリカのプール）を満たし、全テンプレートを解析し、リポジトリのクエリを実行してから、
+ * 主要な画面（一覧・詳細）へ並列に疑似リクエストを送信する
+ * 完了するまではWarmupHealthIndicatorがOUT_OF_SERVICEを返し、readinessプローブによるトラフィックの振り分けを待たせる
+ * 各段階の失敗や時間切れではウォームアップを打ち切り、起動自体は妨げない
+ * app.warmup.enabled=falseの場合は実行せず、直ちに完了とする
+ */
+@Component
+public class StartupWarmup {
+    
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmup.class);
+    
+    private final DataSource dataSource;
+    private final ObjectProvider<ReadReplicaRoutingDataSource> routingDataSource;
+    private final SampleRepository sampleRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ITemplateEngine templateEngine;
+    private final ResourcePatternResolver resourcePatternResolver;
+    private final Map<String, Object> details = new LinkedHashMap<>();
+    
+    private volatile boolean completed;
+    private volatile String phase = "pending";
+    
+    @Value("${app.warmup.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${app.warmup.connections:${spring.datasource.hikari.maximum-pool-size:10}}")
+    private int connections;
+    
+    @Value("${app.warmup.requests:500}")
+    private int requests;
+    
+    @Value("${app.warmup.concurrency:8}")
+    private int concurrency;
+    
+    @Value("${app.warmup.timeout:60s}")
+    private Duration timeout;
+    
+    @Value("${spring.thymeleaf.prefix:classpath:/templates/}")
+    private String templatePrefix;
+    
+    @Value("${spring.thymeleaf.suffix:.html}")
+    private String templateSuffix;
+    
+    /**
+     * コンストラクタ
+     * 
+     * @param dataSource データソース
+     * @param routingDataSource 読み書き振り分けデータソース（リードレプリカを使用しない場合は存在しない）
+     * @param sampleRepository サンプルリポジトリ
+     * @param transactionManager トランザクションマネージャー
+     * @param templateEngine テンプレートエンジン
+     * @param resourcePatternResolver テンプレートファイルの検索用
+     */
+    public StartupWarmup(DataSource dataSource, ObjectProvider<ReadReplicaRoutingDataSource> routingDataSource,
+                         SampleRepository sampleRepository, PlatformTransactionManager transactionManager,
+                         ITemplateEngine templateEngine, ResourcePatternResolver resourcePatternResolver) {
+        this.dataSource = dataSource;
+        this.routingDataSource = routingDataSource;
+        this.sampleRepository = sampleRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.templateEngine = templateEngine;
+        this.resourcePatternResolver = resourcePatternResolver;
+    }
+    
+    /**
+     * ウォームアップが完了したか
+     * 
+     * @return 完了（打ち切りを含む）した場合、または無効な場合はtrue
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+    
+    /**
+     * 実行中の段階
+     * 
+     * @return 段階名
+     */
+    public String getPhase() {
+        return phase;
+    }
+    
+    /**
+     * 各段階の結果
+     * 
+     * @return 段階名をキーとする結果（件数または失敗理由）
+     */
+    public Map<String, Object> getDetails() {
+        synchronized (details) {
+            return new LinkedHashMap<>(details);
+        }
+    }
+    
+    /**
+     * 起動完了後にウォームアップを開始
+     * 疑似リクエストを受け付けられるよう、Webサーバーの起動後に別スレッドで実行する
+     * 
+     * @param event 起動完了イベント
+     */
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        if (!enabled) {
+            phase = "disabled";
+            completed = true;
+            return;
+        }
+        int port = event.getApplicationContext() instanceof WebServerApplicationContext context
+            ? context.getWebServer().getPort() : -1;
+        Thread.ofPlatform().name("startup-warmup").daemon(true).start(() -> run(port));
+    }
+    
+    /**
+     * 全段階を順に実行
+     * 
+     * @param port Webサーバーのポート番号（Webサーバーがない場合は-1）
+     */
+    private void run(int port) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        log.info("ウォームアップを開始します: connections={}, requests={}, concurrency={}, timeout={}s",
+            connections, requests, concurrency, timeout.toSeconds());
+        try {
+            step("connections", deadline, this::fillPools);
+            step("templates", deadline, this::parseTemplates);
+            step("queries", deadline, this::prepareQueries);
+            if (port > 0) {
+                step("requests", deadline, () -> driveRequests(port, deadline));
+            }
+        } finally {
+            long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+            record("durationMs", elapsedMillis);
+            phase = "completed";
+            completed = true;
+            log.info("ウォームアップが完了しました: 所要時間={}ms, 結果={}", elapsedMillis, getDetails());
+        }
+    }
+    
+    /**
+     * 1段階を実行し、結果を記録
+     * 期限を過ぎている場合は実行せず、失敗した場合は以降の段階を続行する
+     * 
+     * @param name 段階名
+     * @param deadline 期限（System.nanoTime()基準）
+     * @param action 段階の処理（結果を返却）
+     */
+    private void step(String name, long deadline, WarmupStep action) {
+        if (System.nanoTime() - deadline > 0) {
+            record(name, "skipped (timeout)");
+            return;
+        }
+        phase = name;
+        try {
+            record(name, action.run());
+        } catch (Exception e) {
+            log.warn("ウォームアップの段階に失敗しました: phase={}, 原因={}", name, e.getMessage());
+            record(name, "failed: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 全ての接続プールを満たす
+     * アプリケーションのデータソース（LazyConnectionDataSourceProxy）経由ではトランザクション外の接続が全てプライマリとなるため、
+     * リードレプリカを使用する場合はプライマリと正常な各レプリカのプールを直接満たす
+     * 1つのプールで失敗しても、残りのプールは続けて満たす
+     * 
+     * @return プール名をキーとする確立・検証した接続数（または失敗理由）
+     */
+    private Object fillPools() {
+        List<DataSource> targets = routingDataSource.stream()
+            .flatMap(routing -> routing.targetDataSources().stream())
+            .toList();
+        if (targets.isEmpty()) {
+            targets = List.of(dataSource);
+        }
+        Map<String, Object> results = new LinkedHashMap<>();
+        for (int i = 0; i < targets.size(); i++) {
+            DataSource target = targets.get(i);
+            String name = target instanceof HikariDataSource hikari && hikari.getPoolName() != null
+                ? hikari.getPoolName() : "pool-" + i;
+            int size = target instanceof HikariDataSource hikari
+                ? Math.min(connections, hikari.getMaximumPoolSize()) : connections;
+            try {
+                results.put(name, fillPool(target, size));
+            } catch (SQLException e) {
+                log.warn("接続プールのウォームアップに失敗しました: pool={}, 原因={}", name, e.getMessage());
+                results.put(name, "failed: " + e.getMessage());
+            }
+        }
+        return results;
+    }
+    
+    /**
+     * 接続プールを満たす
+     * 接続を返却せずに上限数まで取得することで、プールに新しい接続を確立させ、それぞれの有効性を確認する
+     * 
+     * @param target 対象のデータソース
+     * @param size 取得する接続数
+     * @return 確立・検証した接続数
+     * @throws SQLException 接続の取得に失敗した場合
+     */
+    private static int fillPool(DataSource target, int size) throws SQLException {
+        List<Connection> borrowed = new ArrayList<>(size);
+        try {
+            for (int i = 0; i < size; i++) {
+                Connection connection = target.getConnection();
+                borrowed.add(connection);
+                if (!connection.isValid(5)) {
+                    throw new SQLException("無効な接続を取得しました");
+                }
+            }
+            return borrowed.size();
+        } finally {
+            for (Connection connection : borrowed) {
+                connection.close();
+            }
+        }
+    }
+    
+    /**
+     * 全てのテンプレートを解析
+     * 空のモデルで処理するため変数の評価で失敗するテンプレートもあるが、解析結果はその前にキャッシュされる
+     * 
+     * @return 解析したテンプレート数
+     * @throws IOException テンプレートファイルの検索に失敗した場合
+     */
+    private Object parseTemplates() throws IOException {
+        String root = templatePrefix.endsWith("/") ? templatePrefix : templatePrefix + "/";
+        int parsed = 0;
+        for (Resource resource : resourcePatternResolver.getResources(root + "**/*" + templateSuffix)) {
+            String url = resource.getURL().toString();
+            String marker = root.substring(root.indexOf(':') + 1);
+            String name = url.substring(url.lastIndexOf(marker) + marker.length(), url.length() - templateSuffix.length());
+            try {
+                templateEngine.process(name, new Context(), Writer.nullWriter());
+            } catch (TemplateEngineException e) {
+                log.debug("ウォームアップでのテンプレート処理を打ち切りました: template={}, 原因={}", name, e.getMessage());
+            }
+            parsed++;
+        }
+        return parsed;
+    }
+    
+    /**
+     * SampleRepositoryのクエリを実行
+     * 各クエリの解析・SQL生成をHibernateに行わせ、結果をキャッシュさせる
+     * 
+     * @return 実行したクエリ数
+     */
+    private Object prepareQueries() {
+        return readOnlyTransaction.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            sampleRepository.findNextPage(0L, Limit.of(1));
+            sampleRepository.findPreviousPage(Long.MAX_VALUE, Limit.of(1));
+            sampleRepository.findByName("");
+            sampleRepository.findCreatedBetween(now, now, Limit.of(1));
+            sampleRepository.findById(0L);
+            return 5;
+        });
+    }
+    
+    /**
+     * 一覧画面と詳細画面へ並列に疑似リクエストを送信
+     * 期限を過ぎた時点で送信を打ち切る
+     * 
+     * @param port Webサーバーのポート番号
+     * @param deadline 期限（System.nanoTime()基準）
+     * @return 送信件数と失敗件数
+     * @throws InterruptedException 割り込まれた場合
+     */
+    private Object driveRequests(int port, long deadline) throws InterruptedException {
+        List<String> paths = new ArrayList<>();
+        paths.add("/");
+        List<SampleRecord> samples = readOnlyTransaction.execute(status ->
+            sampleRepository.findNextPage(0L, Limit.of(Math.max(1, concurrency))));
+        samples.forEach(sample -> paths.add("/detail/" + sample.id()));
+        
+        AtomicInteger sent = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        try (HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build()) {
+            List<Thread> workers = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(Thread.ofPlatform().name("startup-warmup-" + i).daemon(true).start(() -> {
+                    int n;
+                    while ((n = sent.getAndIncrement()) < requests && System.nanoTime() - deadline < 0) {
+                        URI uri = URI.create("http://localhost:" + port + paths.get(n % paths.size()));
+                        try {
+                            HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri).GET()
+                                .timeout(Duration.ofSeconds(10)).build(), HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                failed.incrementAndGet();
+                            }
+                        } catch (IOException e) {
+                            failed.incrementAndGet();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                    }
+                }));
+            }
+            for (Thread worker : workers) {
+                worker.join();
+            }
+        }
+        return Map.of("sent", Math.min(sent.get(), requests), "failed", failed.get());
+    }
+    
+    private void record(String name, Object value) {
+        synchronized (details) {
+            details.put(name, value);
+        }
+    }
+    
+    /**
+     * ウォームアップの段階の処理
+     */
+    @FunctionalInterface
+    private interface WarmupStep {
+        
+        /**
+         * 段階の処理を実行
+         * 
+         * @return 結果
+         * @throws Exception 処理に失敗した場合
+         */
+        Object run() throws Exception;
+    }
+}
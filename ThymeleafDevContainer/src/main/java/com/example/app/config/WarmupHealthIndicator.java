@@ -0,0 +1,33 @@
+package com.example.app.config;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 起動時のウォームアップの完了を示すヘルスインジケーター（warmup）
+ * readinessグループに含め、ウォームアップが完了するまでreadinessプローブをOUT_OF_SERVICEとする
+ */
+@Component
+public class WarmupHealthIndicator implements HealthIndicator {
+    
+    private final StartupWarmup startupWarmup;
+    
+    /**
+     * コンストラクタ
+     * 
+     * @param startupWarmup 起動時のウォームアップ
+     */
+    public WarmupHealthIndicator(StartupWarmup startupWarmup) {
+        this.startupWarmup = startupWarmup;
+    }
+    
+    @Override
+    public Health health() {
+        Health.Builder builder = startupWarmup.isCompleted() ? Health.up() : Health.outOfService();
+        return builder
+            .withDetail("phase", startupWarmup.getPhase())
+            .withDetails(startupWarmup.getDetails())
+            .build();
+    }
+}
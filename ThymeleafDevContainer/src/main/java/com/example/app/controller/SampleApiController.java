@@ -0,0 +1,259 @@
+package com.example.app.controller;
+
+import com.example.app.concurrency.DatabaseBusyException;
+import com.example.app.dto.BulkCreateResponse;
+import com.example.app.dto.DailySampleStats;
+import com.example.app.dto.ImportResult;
+import com.example.app.dto.SampleRecord;
+import com.example.app.search.NamePrefixIndex;
+import com.example.app.service.SampleExportService;
+import com.example.app.service.SampleImportService;
+import com.example.app.service.SampleService;
+import com.example.app.service.SampleStatsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * サンプルAPIコントローラークラス
+ * 画面を伴わないデータ操作用のHTTPエンドポイントを提供
+ */
+@RestController
+@RequestMapping("/api/samples")
+public class SampleApiController {
+    
+    private static final Logger log = LoggerFactory.getLogger(SampleApiController.class);
+    
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    
+    private final SampleService sampleService;
+    private final SampleExportService sampleExportService;
+    private final SampleImportService sampleImportService;
+    private final SampleStatsService sampleStatsService;
+    private final NamePrefixIndex namePrefixIndex;
+    
+    @Value("${app.autocomplete.max-results:10}")
+    private int autocompleteMaxResults;
+    
+    @Value("${app.pagination.max-size:100}")
+    private int maxPageSize;
+    
+    /**
+     * コンストラクタ
+     * 
+     * @param sampleService サンプルサービス
+     * @param sampleExportService エクスポートサービス
+     * @param sampleImportService 取り込みサービス
+     * @param sampleStatsService 統計サービス
+     * @param namePrefixIndex 名前の前方一致インデックス
+     */
+    public SampleApiController(SampleService sampleService, SampleExportService sampleExportService,
+                               SampleImportService sampleImportService, SampleStatsService sampleStatsService,
+                               NamePrefixIndex namePrefixIndex) {
+        this.sampleService = sampleService;
+        this.sampleExportService = sampleExportService;
+        this.sampleImportService = sampleImportService;
+        this.sampleStatsService = sampleStatsService;
+        this.namePrefixIndex = namePrefixIndex;
+    }
+    
+    /**
+     * 名前が完全一致するレコードを検索
+     * 
+     * @param name 名前
+     * @return レコードのリスト
+     */
+    @GetMapping(params = "name")
+    public List<SampleRecord> findByName(@RequestParam("name") String name) {
+        return sampleService.findByName(name);
+    }
+    
+    /**
+     * 作成日時が指定範囲内のレコードを取得
+     * 
+     * @param from 範囲の開始日時（含む、ISO-8601形式）
+     * @param to 範囲の終了日時（含まない、ISO-8601形式）
+     * @param limit 最大件数
+     * @return 作成日時順のレコードのリスト
+     */
+    @GetMapping("/created")
+    public List<SampleRecord> findCreatedBetween(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        int max = limit == null || limit < 1 ? maxPageSize : Math.min(limit, maxPageSize);
+        return sampleService.findCreatedBetween(from, to, max);
+    }
+    
+    /**
+     * 日別の作成・更新・削除件数を取得（ダッシュボード用）
+     * 
+     * @param from 開始日（含む、ISO-8601形式、未指定時は終了日の29日前）
+     * @param to 終了日（含む、ISO-8601形式、未指定時は当日）
+     * @return 日付順の日別件数
+     */
+    @GetMapping("/stats/daily")
+    public List<DailySampleStats> dailyStats(
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        return sampleStatsService.findDaily(from != null ? from : end.minusDays(29), end);
+    }
+    
+    /**
+     * 名前の入力候補を取得（オートコンプリート用）
+     * メモリ上の前方一致インデックスから返却するため、データベースへの問い合わせは発生しない
+     * 
+     * @param prefix 入力中の文字列
+     * @param limit 最大件数
+     * @return 前方一致する名前のリスト（名前順）
+     */
+    @GetMapping("/autocomplete")
+    public List<String> autocomplete(@RequestParam("prefix") String prefix,
+                                     @RequestParam(value = "limit", required = false) Integer limit) {
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        int max = limit == null || limit < 1 ? autocompleteMaxResults : Math.min(limit, autocompleteMaxResults);
+        return namePrefixIndex.suggest(prefix, max);
+    }
+    
+    /**
+     * エンティティを一括作成
+     * 
+     * @param names 名前のJSON配列
+     * @return 作成件数とIDのリスト
+     */
+    @PostMapping("/bulk")
+    @ResponseStatus(HttpStatus.CREATED)
+    public BulkCreateResponse bulkCreate(@RequestBody(required = false) List<String> names) {
+        // 本文が空またはnullの場合は件数を参照せずに400とする
+        if (names == null) {
+            throw new IllegalArgumentException("名前を1件以上指定してください");
+        }
+        log.info("エンティティの一括作成を要求: 件数={}", names.size());
+        
+        List<Long> ids = sampleService.createAll(names);
+        return new BulkCreateResponse(ids.size(), ids);
+    }
+    
+    /**
+     * アップロードされたCSVをCOPYで一括取り込み
+     * アップロードファイルは一時ファイルに退避され、そこからストリームで読み込む
+     * 1行を1レコードとして扱うため、ダブルクォート内に改行を含む値は対応しない
+     * （値の開始行は検証エラーとして除外され、続きの行は独立した行として取り込まれる）
+     * 進捗は完了まで応答されないため、取り込み中はメトリクス（app.import.rows）とログで確認する
+     * 
+     * @param file CSVファイル（1列目が名前）
+     * @return 取り込み結果
+     * @throws IOException ファイルの読み込みに失敗した場合
+     */
+    @PostMapping("/import")
+    public ImportResult importCsv(@RequestParam("file") MultipartFile file) throws IOException {
+        log.info("CSV取り込みを要求: ファイル名={}, サイズ={}", file.getOriginalFilename(), file.getSize());
+        
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("ファイルが空です");
+        }
+        try (InputStream in = file.getInputStream()) {
+            return sampleImportService.importCsv(in);
+        }
+    }
+    
+    /**
+     * 全件をCSV形式でストリーミング出力
+     * 
+     * @return CSVのストリーミングレスポンス
+     */
+    @GetMapping("/export.csv")
+    public ResponseEntity<StreamingResponseBody> exportCsv() {
+        log.info("CSVエクスポートを要求");
+        
+        StreamingResponseBody body = sampleExportService::exportCsv;
+        return ResponseEntity.ok()
+            .contentType(TEXT_CSV)
+            .header(HttpHeaders.CONTENT_DISPOSITION, attachment("sample_table.csv"))
+            .body(body);
+    }
+    
+    /**
+     * 全件をNDJSON形式でストリーミング出力
+     * 
+     * @return NDJSONのストリーミングレスポンス
+     */
+    @GetMapping("/export.ndjson")
+    public ResponseEntity<StreamingResponseBody> exportNdjson() {
+        log.info("NDJSONエクスポートを要求");
+        
+        StreamingResponseBody body = sampleExportService::exportNdjson;
+        return ResponseEntity.ok()
+            .contentType(APPLICATION_NDJSON)
+            .header(HttpHeaders.CONTENT_DISPOSITION, attachment("sample_table.ndjson"))
+            .body(body);
+    }
+    
+    /**
+     * IllegalArgumentException（不正な引数）のハンドリング
+     * APIクライアント向けにエラーページではなくProblem Details形式で返却する
+     * 
+     * @param e IllegalArgumentException
+     * @return エラー詳細
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ProblemDetail> handleIllegalArgumentException(IllegalArgumentException e) {
+        log.warn("不正な引数: {}", e.getMessage());
+        return ResponseEntity.badRequest()
+            .body(ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage()));
+    }
+    
+    /**
+     * データベース処理の実行枠を確保できなかった場合のハンドリング
+     * 再試行までの目安としてRetry-Afterヘッダーを付与する
+     * 
+     * @param e DatabaseBusyException
+     * @return エラー詳細
+     */
+    @ExceptionHandler(DatabaseBusyException.class)
+    public ResponseEntity<ProblemDetail> handleDatabaseBusyException(DatabaseBusyException e) {
+        log.warn("データベース処理の実行枠を確保できません: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage()));
+    }
+    
+    /**
+     * ダウンロード用のContent-Dispositionヘッダー値を生成
+     * 
+     * @param filename ファイル名
+     * @return ヘッダー値
+     */
+    private static String attachment(String filename) {
+        return ContentDisposition.attachment().filename(filename).build().toString();
+    }
+}
@@ -1,11 +1,16 @@
 package com.example.app.controller;
 
+import com.example.app.dto.KeysetPage;
+import com.example.app.dto.SampleRecord;
 import com.example.app.entity.SampleEntity;
+import com.example.app.service.SampleCountService;
 import com.example.app.service.SampleService;
+import com.example.app.service.SampleWriteBufferFullException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -28,35 +33,75 @@ public class SampleController {
     private static final Logger log = LoggerFactory.getLogger(SampleController.class);
     
     private final SampleService sampleService;
+    private final SampleCountService sampleCountService;
     private final Environment environment;
     
     @Value("${spring.application.name:spring-boot-thymeleaf-app}")
     private String applicationName;
     
+    @Value("${app.pagination.default-size:20}")
+    private int defaultPageSize;
+    
+    @Value("${app.pagination.max-size:100}")
+    private int maxPageSize;
+    
     /**
      * コンストラクタ
      * 
      * @param sampleService サンプルサービス
+     * @param sampleCountService 件数サービス
      * @param environment 環境情報
      */
-    public SampleController(SampleService sampleService, Environment environment) {
+    public SampleController(SampleService sampleService, SampleCountService sampleCountService,
+                            Environment environment) {
         this.sampleService = sampleService;
+        this.sampleCountService = sampleCountService;
         this.environment = environment;
     }
     
     /**
      * インデックスページを表示
-     * 全てのエンティティを取得してモデルに設定
+     * キーワードが指定された場合は名前の部分一致・あいまい検索の結果を、
+     * それ以外はキーセット方式で1ページ分のレコードを取得してモデルに設定
+     * 全件数と検索結果の件数も設定する（件数が多い場合は推定値）
      * 
+     * @param after 次ページ取得時の境界ID
+     * @param before 前ページ取得時の境界ID
+     * @param size 1ページあたりの件数
+     * @param q 検索キーワード
      * @param model モデル
      * @return テンプレート名
      */
     @GetMapping("/")
-    public String index(Model model) {
-        log.info("インデックスページにアクセス");
+    public String index(@RequestParam(required = false) Long after,
+                        @RequestParam(required = false) Long before,
+                        @RequestParam(required = false) Integer size,
+                        @RequestParam(required = false) String q,
+                        Model model) {
+        log.info("インデックスページにアクセス: after={}, before={}, size={}, q={}", after, before, size, q);
         
-        // ビジネスロジックの実行
-        List<SampleEntity> entities = sampleService.findAll();
+        // ページサイズの決定（未指定時はデフォルト値、上限を超える場合は上限値）
+        int pageSize = size == null || size < 1 ? defaultPageSize : Math.min(size, maxPageSize);
+        
+        // ビジネスロジックの実行（検索時はページネーションを行わず、類似度の高い順に上位のみ表示）
+        if (q != null && !q.isBlank()) {
+            List<SampleRecord> samples;
+            try {
+                samples = sampleService.searchByName(q, pageSize);
+                model.addAttribute("matchCount", sampleCountService.countByName(q));
+            } catch (IllegalArgumentException e) {
+                samples = List.of();
+                model.addAttribute("message", e.getMessage());
+                model.addAttribute("messageType", "error");
+            }
+            model.addAttribute("samples", samples);
+            model.addAttribute("query", q);
+        } else {
+            KeysetPage<SampleRecord> page = sampleService.findPage(after, before, pageSize);
+            model.addAttribute("samples", page.content());
+            model.addAttribute("page", page);
+        }
+        model.addAttribute("totalCount", sampleCountService.countAll());
         
         // アクティブプロファイルの取得
         String activeProfile = Arrays.stream(environment.getActiveProfiles())
@@ -64,7 +109,7 @@ public class SampleController {
             .orElse("default");
         
         // モデルへのデータ設定
-        model.addAttribute("samples", entities);
+        model.addAttribute("pageSize", pageSize);
         model.addAttribute("title", "サンプルアプリケーション");
         model.addAttribute("activeProfile", activeProfile);
         model.addAttribute("applicationName", applicationName);
@@ -86,13 +131,13 @@ public class SampleController {
     public String detail(@PathVariable Long id, Model model) {
         log.info("詳細ページにアクセス: id={}", id);
         
-        // ビジネスロジックの実行
-        SampleEntity entity = sampleService.findById(id)
+        // ビジネスロジックの実行（表示専用のため、第2レベルキャッシュから読み取り専用レコードを取得）
+        SampleRecord entity = sampleService.findRecordById(id)
             .orElseThrow(() -> new RuntimeException("エンティティが見つかりません: id=" + id));
         
         // モデルへのデータ設定
         model.addAttribute("entity", entity);
-        model.addAttribute("title", "詳細 - " + entity.getName());
+        model.addAttribute("title", "詳細 - " + entity.name());
         
         // Thymeleafテンプレート名を返却
         return "detail";
@@ -145,6 +190,14 @@ public class SampleController {
             
             // 作成フォームにリダイレクト
             return "redirect:/create";
+        } catch (SampleWriteBufferFullException e) {
+            log.warn("書き込みバッファが満杯のため作成を拒否: {}", e.getMessage());
+            
+            // 入力内容を保持したまま作成フォームに戻し、再試行を促す
+            redirectAttributes.addFlashAttribute("message", e.getMessage());
+            redirectAttributes.addFlashAttribute("messageType", "error");
+            redirectAttributes.addFlashAttribute("name", name);
+            return "redirect:/create";
         }
     }
     
@@ -176,19 +229,21 @@ public class SampleController {
      * 
      * @param id エンティティID
      * @param name 新しい名前
+     * @param version 編集開始時のバージョン
      * @param redirectAttributes リダイレクト属性
      * @return リダイレクト先
      */
     @PostMapping("/edit/{id}")
-    public String update(@PathVariable Long id, @RequestParam String name, RedirectAttributes redirectAttributes) {
-        log.info("エンティティを更新: id={}, name={}", id, name);
+    public String update(@PathVariable Long id, @RequestParam String name, @RequestParam Long version,
+                         RedirectAttributes redirectAttributes) {
+        log.info("エンティティを更新: id={}, name={}, version={}", id, name, version);
         
         try {
             // ビジネスロジックの実行
-            SampleEntity entity = sampleService.update(id, name);
+            SampleRecord updated = sampleService.update(id, name, version);
             
             // 成功メッセージを設定
-            redirectAttributes.addFlashAttribute("message", "エンティティを更新しました: " + entity.getName());
+            redirectAttributes.addFlashAttribute("message", "エンティティを更新しました: " + updated.name());
             redirectAttributes.addFlashAttribute("messageType", "success");
             
             // インデックスページにリダイレクト
@@ -200,6 +255,15 @@ public class SampleController {
             redirectAttributes.addFlashAttribute("message", "エラー: " + e.getMessage());
             redirectAttributes.addFlashAttribute("messageType", "error");
             
+            // 編集フォームにリダイレクト
+            return "redirect:/edit/" + id;
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("エンティティの更新が競合: {}", e.getMessage());
+            
+            // 競合メッセージを設定（編集フォームには最新の内容とバージョンが表示される）
+            redirectAttributes.addFlashAttribute("message", "エラー: " + e.getMessage());
+            redirectAttributes.addFlashAttribute("messageType", "error");
+            
             // 編集フォームにリダイレクト
             return "redirect:/edit/" + id;
         }
@@ -0,0 +1,12 @@
+package com.example.app.dto;
+
+import java.util.List;
+
+/**
+ * 一括作成APIのレスポンス
+ * 
+ * @param count 作成件数
+ * @param ids 作成されたエンティティのIDのリスト（入力順）
+ */
+public record BulkCreateResponse(int count, List<Long> ids) {
+}
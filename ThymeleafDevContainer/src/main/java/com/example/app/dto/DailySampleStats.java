@@ -0,0 +1,14 @@
+package com.example.app.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 日別の作成・更新・削除件数を表すレコード
+ * 
+ * @param date 日付
+ * @param created 作成件数
+ * @param updated 更新件数
+ * @param deleted 削除件数（アーカイブへの移動は含まない）
+ */
+public record DailySampleStats(LocalDate date, long created, long updated, long deleted) {
+}
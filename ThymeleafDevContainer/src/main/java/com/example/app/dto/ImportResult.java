@@ -0,0 +1,22 @@
+package com.example.app.dto;
+
+import java.util.List;
+
+/**
+ * 一括取り込みの結果
+ * 
+ * @param processed 処理した行数（ヘッダー行・空行を除く）
+ * @param imported 取り込んだ行数
+ * @param rejected 検証エラーで除外した行数
+ * @param errors 除外した行のエラー内容（先頭から上限件数まで）
+ */
+public record ImportResult(long processed, long imported, long rejected, List<String> errors) {
+    
+    /**
+     * コンストラクタ
+     * エラー内容は不変リストとして保持する
+     */
+    public ImportResult {
+        errors = List.copyOf(errors);
+    }
+}
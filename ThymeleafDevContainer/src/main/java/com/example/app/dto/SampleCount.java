@@ -0,0 +1,31 @@
+package com.example.app.dto;
+
+/**
+ * 件数を表すレコード
+ * 件数が多い場合は全件を数えず統計情報や実行計画から推定するため、推定値かどうかを併せて保持する
+ * 
+ * @param value 件数
+ * @param approximate 推定値の場合はtrue
+ */
+public record SampleCount(long value, boolean approximate) {
+    
+    /**
+     * 正確な件数
+     * 
+     * @param value 件数
+     * @return 件数
+     */
+    public static SampleCount exact(long value) {
+        return new SampleCount(value, false);
+    }
+    
+    /**
+     * 推定した件数
+     * 
+     * @param value 推定件数
+     * @return 件数
+     */
+    public static SampleCount approximate(long value) {
+        return new SampleCount(value, true);
+    }
+}
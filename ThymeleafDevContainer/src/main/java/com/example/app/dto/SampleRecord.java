@@ -0,0 +1,15 @@
+package com.example.app.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * sample_tableの1行を表す読み取り専用モデル
+ * JPAの永続化コンテキストで管理されないため、スナップショットやダーティチェックのコストがかからない
+ * 
+ * @param id ID
+ * @param name 名前
+ * @param createdAt 作成日時
+ * @param updatedAt 更新日時
+ */
+public record SampleRecord(Long id, String name, LocalDateTime createdAt, LocalDateTime updatedAt) {
+}
@@ -0,0 +1,10 @@
+package com.example.app.dto;
+
+/**
+ * sample_tableの1行を更新した結果
+ * 
+ * @param record 更新後のレコード
+ * @param oldName 更新前の名前
+ */
+public record SampleUpdateResult(SampleRecord record, String oldName) {
+}
@@ -1,21 +1,36 @@
 package com.example.app.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import java.time.LocalDateTime;
 
 /**
  * サンプルエンティティクラス
  * sample_tableテーブルに対応するJPAエンティティ
+ * 第2レベルキャッシュ（リージョン: sampleEntity）の対象とし、ID検索をデータベースへ問い合わせずに返却する
  */
 @Entity
 @Table(name = "sample_table")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SampleEntity.CACHE_REGION)
 public class SampleEntity {
     
+    /**
+     * 第2レベルキャッシュのリージョン名
+     */
+    public static final String CACHE_REGION = "sampleEntity";
+    
     /**
      * ID（主キー）
+     * IDENTITYではINSERTごとにIDを取得する必要がありJDBCバッチが無効になるため、
+     * シーケンスからallocationSize単位でIDをまとめて払い出す（pooledオプティマイザー）
+     * シーケンスのINCREMENT BYはallocationSizeと一致させること（docker/init.sql参照）
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sample_table_id_seq")
+    @SequenceGenerator(name = "sample_table_id_seq", sequenceName = "sample_table_id_seq", allocationSize = 50)
     private Long id;
     
     /**
@@ -36,6 +51,14 @@ public class SampleEntity {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    /**
+     * バージョン（楽観的排他制御用）
+     * 更新のたびに1加算され、編集開始時のバージョンと一致しない場合は更新が競合したとみなす
+     */
+    @Version
+    @Column(name = "version")
+    private Long version;
+    
     /**
      * デフォルトコンストラクタ
      */
@@ -90,4 +113,12 @@ public class SampleEntity {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,104 @@
+package com.example.app.event;
+
+import com.example.app.config.CacheConfig;
+import com.example.app.entity.SampleEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Objects;
+
+/**
+ * キャッシュの無効化クラス
+ * 変更イベントを受け取り、名前検索結果キャッシュからは影響を受ける名前のキーのみを除去する
+ * JDBCで直接更新・削除した行は第2レベルキャッシュに反映されないため、該当IDのエンティティも除去する
+ * コミット前に除去すると、並行する検索がコミット前の結果を再度キャッシュしてしまうため、コミット後に除去する
+ * 除去後にキャッシュへ格納する読み込み（SampleServiceのfindById・findByName）は、リードレプリカの遅延の影響を受けないようプライマリから行う
+ */
+@Component
+public class SampleCacheInvalidator {
+    
+    private static final Logger log = LoggerFactory.getLogger(SampleCacheInvalidator.class);
+    
+    private final Cache samplesByName;
+    
+    private final jakarta.persistence.Cache entityCache;
+    
+    private final Counter keyEvictions;
+    
+    private final Counter clears;
+    
+    /**
+     * コンストラクタ
+     * 
+     * @param cacheManager キャッシュマネージャー
+     * @param entityManagerFactory エンティティマネージャーファクトリー
+     * @param meterRegistry メトリクスレジストリ
+     */
+    public SampleCacheInvalidator(CacheManager cacheManager, EntityManagerFactory entityManagerFactory,
+                                  MeterRegistry meterRegistry) {
+        this.samplesByName = Objects.requireNonNull(cacheManager.getCache(CacheConfig.SAMPLES_BY_NAME_CACHE),
+            "キャッシュが定義されていません: " + CacheConfig.SAMPLES_BY_NAME_CACHE);
+        this.entityCache = entityManagerFactory.getCache();
+        this.keyEvictions = Counter.builder("app.cache.invalidations")
+            .description("変更により無効化したキャッシュエントリー数")
+            .tag("cache", CacheConfig.SAMPLES_BY_NAME_CACHE)
+            .tag("scope", "key")
+            .register(meterRegistry);
+        this.clears = Counter.builder("app.cache.invalidations")
+            .description("変更により無効化したキャッシュエントリー数")
+            .tag("cache", CacheConfig.SAMPLES_BY_NAME_CACHE)
+            .tag("scope", "all")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * コミット後に変更前・変更後の名前のキーと、更新・削除されたエンティティを除去
+     * 一括取り込みでは変更された名前を特定しないため、キャッシュ全体を除去する
+     * 全破棄の場合は、第2レベルキャッシュのエンティティも全て除去する
+     * 他ノードから受信した変更はトランザクション外で発行されるため、受信時に除去する
+     * 
+     * @param event 変更イベント
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSampleChanged(SampleChangedEvent event) {
+        if (event.type() == SampleChangedEvent.Type.FLUSHED) {
+            entityCache.evict(SampleEntity.class);
+        }
+        if (event.type() == SampleChangedEvent.Type.IMPORTED || event.type() == SampleChangedEvent.Type.FLUSHED) {
+            samplesByName.clear();
+            clears.increment();
+            log.debug("名前検索キャッシュを全て除去しました");
+            return;
+        }
+        if (event.type() != SampleChangedEvent.Type.CREATED) {
+            entityCache.evict(SampleEntity.class, event.id());
+        }
+        evict(event.oldName());
+        if (!Objects.equals(event.oldName(), event.newName())) {
+            evict(event.newName());
+        }
+    }
+    
+    /**
+     * 名前のキーを除去
+     * 
+     * @param name 名前（nullの場合は何もしない）
+     */
+    private void evict(String name) {
+        if (name == null) {
+            return;
+        }
+        if (samplesByName.evictIfPresent(name)) {
+            keyEvictions.increment();
+            log.debug("名前検索キャッシュを除去しました: name={}", name);
+        }
+    }
+}
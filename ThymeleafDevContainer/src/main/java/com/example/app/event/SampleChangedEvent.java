@@ -0,0 +1,95 @@
+package com.example.app.event;
+
+/**
+ * sample_tableの変更イベント
+ * 変更を行ったトランザクション内で発行され、コミット後にキャッシュの無効化などに利用される
+ * 他ノードでの変更（SampleInvalidationBusが受信したもの）はトランザクション外で発行され、受信時に即時に反映される
+ * 
+ * @param type 変更の種類
+ * @param id 変更されたID（一括取り込み・全破棄の場合はnull）
+ * @param oldName 変更前の名前（作成・一括取り込み・全破棄の場合はnull）
+ * @param newName 変更後の名前（削除・アーカイブ・一括取り込み・全破棄の場合はnull）
+ */
+public record SampleChangedEvent(Type type, Long id, String oldName, String newName) {
+    
+    /**
+     * 変更の種類
+     */
+    public enum Type {
+        /** 作成 */
+        CREATED,
+        /** 更新 */
+        UPDATED,
+        /** 削除 */
+        DELETED,
+        /** アーカイブテーブルへの移動 */
+        ARCHIVED,
+        /** 一括取り込み（変更された行を特定しない） */
+        IMPORTED,
+        /** 他ノードの変更を取りこぼした可能性があるため、キャッシュを全て破棄する */
+        FLUSHED
+    }
+    
+    /**
+     * 作成イベントを生成
+     * 
+     * @param id ID
+     * @param name 名前
+     * @return 変更イベント
+     */
+    public static SampleChangedEvent created(Long id, String name) {
+        return new SampleChangedEvent(Type.CREATED, id, null, name);
+    }
+    
+    /**
+     * 更新イベントを生成
+     * 
+     * @param id ID
+     * @param oldName 変更前の名前
+     * @param newName 変更後の名前
+     * @return 変更イベント
+     */
+    public static SampleChangedEvent updated(Long id, String oldName, String newName) {
+        return new SampleChangedEvent(Type.UPDATED, id, oldName, newName);
+    }
+    
+    /**
+     * 削除イベントを生成
+     * 
+     * @param id ID
+     * @param name 削除された名前
+     * @return 変更イベント
+     */
+    public static SampleChangedEvent deleted(Long id, String name) {
+        return new SampleChangedEvent(Type.DELETED, id, name, null);
+    }
+    
+    /**
+     * アーカイブイベントを生成
+     * 
+     * @param id ID
+     * @param name アーカイブされた名前
+     * @return 変更イベント
+     */
+    public static SampleChangedEvent archived(Long id, String name) {
+        return new SampleChangedEvent(Type.ARCHIVED, id, name, null);
+    }
+    
+    /**
+     * 一括取り込みイベントを生成
+     * 
+     * @return 変更イベント
+     */
+    public static SampleChangedEvent imported() {
+        return new SampleChangedEvent(Type.IMPORTED, null, null, null);
+    }
+    
+    /**
+     * 全破棄イベントを生成
+     * 
+     * @return 変更イベント
+     */
+    public static SampleChangedEvent flushed() {
+        return new SampleChangedEvent(Type.FLUSHED, null, null, null);
+    }
+}
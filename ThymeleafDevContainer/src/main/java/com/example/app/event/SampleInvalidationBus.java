@@ -0,0 +1,347 @@
+package com.example.app.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * ノード間のキャッシュ無効化バス（PostgreSQLのLISTEN/NOTIFY）
+ * 変更を行ったトランザクションのコミット直前に、同じトランザクション内で変更イベントをNOTIFYする
+ * NOTIFYはコミットされた場合にのみ配信されるため、ロールバックされた変更が他ノードへ通知されることはない
+ * 各ノードは専用の接続でLISTENし、他ノードからの変更イベントをトランザクション外で発行して
+ * ローカルのキャッシュ（名前検索結果・第2レベルキャッシュ・前方一致インデックス）に反映する
+ * LISTEN用の接続が切断された場合は再接続し、切断中の通知を取りこぼした可能性があるためキャッシュを全て破棄する
+ * app.invalidation-bus.enabled=falseの場合は通知・受信とも行わない
+ */
+@Component
+public class SampleInvalidationBus implements SmartLifecycle {
+    
+    private static final Logger log = LoggerFactory.getLogger(SampleInvalidationBus.class);
+    
+    private static final String NOTIFY_SQL = "SELECT pg_notify(?, payload) FROM unnest(?::text[]) AS payload";
+    
+    /** 1件の通知の内容の上限（PostgreSQLの上限8000バイトに対し、包む部分の余裕を残す） */
+    private static final int MAX_PAYLOAD_BYTES = 7500;
+    
+    private static final int POLL_TIMEOUT_MILLIS = 1000;
+    
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+    
+    /** このノードの識別子（自ノードが送信した通知を読み飛ばすために使用） */
+    private final String nodeId = UUID.randomUUID().toString();
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final Counter sent;
+    private final Counter received;
+    private final Counter reconnects;
+    private final AtomicBoolean connected = new AtomicBoolean();
+    
+    private volatile boolean running;
+    private Thread listener;
+    
+    @Value("${app.invalidation-bus.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${app.invalidation-bus.channel:sample_changed}")
+    private String channel;
+    
+    @Value("${app.invalidation-bus.max-events-per-transaction:10000}")
+    private int maxEventsPerTransaction;
+    
+    @Value("${app.invalidation-bus.validation-interval:10s}")
+    private Duration validationInterval;
+    
+    @Value("${app.invalidation-bus.reconnect-delay:1s}")
+    private Duration reconnectDelay;
+    
+    @Value("${app.invalidation-bus.max-reconnect-delay:30s}")
+    private Duration maxReconnectDelay;
+    
+    /**
+     * コンストラクタ
+     * 
+     * @param jdbcTemplate JDBCテンプレート
+     * @param dataSourceProperties データソース設定（LISTEN用の接続に使用）
+     * @param eventPublisher イベント発行
+     * @param objectMapper JSONの変換
+     * @param meterRegistry メトリクスレジストリ
+     */
+    public SampleInvalidationBus(JdbcTemplate jdbcTemplate, DataSourceProperties dataSourceProperties,
+                                 ApplicationEventPublisher eventPublisher, ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.sent = notificationCounter(meterRegistry, "sent");
+        this.received = notificationCounter(meterRegistry, "received");
+        this.reconnects = Counter.builder("app.invalidation-bus.reconnects")
+            .description("LISTEN用の接続の再接続回数")
+            .register(meterRegistry);
+        Gauge.builder("app.invalidation-bus.connected", connected, value -> value.get() ? 1 : 0)
+            .description("LISTEN用の接続が確立しているか（1: 接続中）")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * 方向ごとの通知件数カウンターを登録
+     * 
+     * @param meterRegistry メトリクスレジストリ
+     * @param direction 方向（sent/received）
+     * @return カウンター
+     */
+    private static Counter notificationCounter(MeterRegistry meterRegistry, String direction) {
+        return Counter.builder("app.invalidation-bus.notifications")
+            .description("ノード間で送受信した変更通知の件数")
+            .tag("direction", direction)
+            .register(meterRegistry);
+    }
+    
+    /**
+     * 変更イベントをトランザクションごとに集め、コミット直前にまとめて通知するよう登録
+     * トランザクション外で発行されたイベント（他ノードから受信したもの）は通知しない
+     * 
+     * @param event 変更イベント
+     */
+    @EventListener
+    public void onSampleChanged(SampleChangedEvent event) {
+        if (!enabled || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        PendingNotifications pending = (PendingNotifications) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingNotifications();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.events.add(event);
+    }
+    
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        listener = Thread.ofPlatform().name("sample-invalidation-bus").daemon(true).start(this::listen);
+        log.info("キャッシュ無効化バスを開始しました: channel={}, nodeId={}", channel, nodeId);
+    }
+    
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            listener.join(POLL_TIMEOUT_MILLIS * 2L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("キャッシュ無効化バスを停止しました");
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+    
+    /**
+     * LISTEN用の接続を維持し、通知を受信するループ
+     * 接続に失敗した場合は待機時間を倍にしながら（上限あり）再接続を繰り返す
+     */
+    private void listen() {
+        boolean everConnected = false;
+        Duration delay = reconnectDelay;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                connected.set(true);
+                delay = reconnectDelay;
+                if (everConnected) {
+                    // 切断中に送信された通知は受信できないため、ローカルのキャッシュを全て破棄する
+                    reconnects.increment();
+                    log.info("キャッシュ無効化バスに再接続したため、ローカルのキャッシュを全て破棄します");
+                    eventPublisher.publishEvent(SampleChangedEvent.flushed());
+                }
+                everConnected = true;
+                receive(connection);
+            } catch (SQLException | RuntimeException e) {
+                log.warn("キャッシュ無効化バスの接続に失敗しました。{}ms後に再接続します: {}", delay.toMillis(), e.getMessage());
+            } finally {
+                connected.set(false);
+            }
+            if (running && !sleep(delay)) {
+                return;
+            }
+            delay = delay.multipliedBy(2).compareTo(maxReconnectDelay) > 0 ? maxReconnectDelay : delay.multipliedBy(2);
+        }
+    }
+    
+    /**
+     * 接続が有効な間、通知を受信して変更イベントとして発行
+     * 通知がない状態が続く場合は接続を検証し、応答しない接続を切断として扱う
+     * 
+     * @param connection LISTEN中の接続
+     * @throws SQLException 接続が切断された場合
+     */
+    private void receive(Connection connection) throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        long lastActivity = System.nanoTime();
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+            if (notifications != null && notifications.length > 0) {
+                for (PGNotification notification : notifications) {
+                    handle(notification.getParameter());
+                }
+                lastActivity = System.nanoTime();
+            } else if (System.nanoTime() - lastActivity > validationInterval.toNanos()) {
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    throw new SQLException("LISTEN用の接続が応答しません");
+                }
+                lastActivity = System.nanoTime();
+            }
+        }
+    }
+    
+    /**
+     * 受信した通知を変更イベントとして発行（自ノードが送信した通知は読み飛ばす）
+     * 
+     * @param payload 通知の内容（JSON）
+     */
+    private void handle(String payload) {
+        try {
+            Notification notification = objectMapper.readValue(payload, Notification.class);
+            if (nodeId.equals(notification.origin())) {
+                return;
+            }
+            received.increment(notification.events().size());
+            log.debug("他ノードの変更を受信しました: 件数={}", notification.events().size());
+            notification.events().forEach(eventPublisher::publishEvent);
+        } catch (JsonProcessingException e) {
+            log.warn("変更通知の形式が不正なため読み飛ばします: payload={}", payload);
+        } catch (RuntimeException e) {
+            log.error("変更通知の反映に失敗しました: payload={}", payload, e);
+        }
+    }
+    
+    /**
+     * 変更イベントを通知（現在のトランザクション内で実行し、コミット時に配信される）
+     * NOTIFYの内容の上限（8000バイト）を超えないよう、複数のイベントを詰めた通知に分割して1文で送信する
+     * イベント数が上限を超える場合は、個別の通知の代わりに全破棄を1件通知する
+     * 
+     * @param events 変更イベントのリスト
+     */
+    private void sendNotifications(List<SampleChangedEvent> events) {
+        List<SampleChangedEvent> toSend = events.size() > maxEventsPerTransaction
+            ? List.of(SampleChangedEvent.flushed()) : events;
+        List<String> payloads = new ArrayList<>();
+        List<SampleChangedEvent> chunk = new ArrayList<>();
+        int chunkBytes = 0;
+        for (SampleChangedEvent event : toSend) {
+            int eventBytes = toJson(event).getBytes(StandardCharsets.UTF_8).length + 1;
+            if (!chunk.isEmpty() && chunkBytes + eventBytes > MAX_PAYLOAD_BYTES) {
+                payloads.add(toJson(new Notification(nodeId, chunk)));
+                chunk = new ArrayList<>();
+                chunkBytes = 0;
+            }
+            chunk.add(event);
+            chunkBytes += eventBytes;
+        }
+        if (!chunk.isEmpty()) {
+            payloads.add(toJson(new Notification(nodeId, chunk)));
+        }
+        jdbcTemplate.query(NOTIFY_SQL, rs -> null, channel, payloads.toArray(String[]::new));
+        sent.increment(toSend.size());
+    }
+    
+    /**
+     * JSONに変換
+     * 
+     * @param value 変換する値
+     * @return JSON
+     */
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("変更通知の変換に失敗しました", e);
+        }
+    }
+    
+    /**
+     * 再接続までの待機
+     * 
+     * @param delay 待機時間
+     * @return 待機を完了した場合はtrue（割り込まれた場合はfalse）
+     */
+    private static boolean sleep(Duration delay) {
+        try {
+            Thread.sleep(delay);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+    
+    /**
+     * 通知の内容
+     * 
+     * @param origin 送信元ノードの識別子
+     * @param events 変更イベントのリスト
+     */
+    record Notification(String origin, List<SampleChangedEvent> events) {
+    }
+    
+    /**
+     * 1トランザクション内で発行された変更イベント
+     * コミット直前にまとめて通知し、トランザクションの終了時に破棄する
+     */
+    private final class PendingNotifications implements TransactionSynchronization {
+        
+        private final List<SampleChangedEvent> events = new ArrayList<>();
+        
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            sendNotifications(events);
+        }
+        
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(SampleInvalidationBus.this);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.app.exception;
 
+import com.example.app.concurrency.DatabaseBusyException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
@@ -137,6 +138,25 @@ public class GlobalExceptionHandler {
         return "error";
     }
     
+    /**
+     * データベース処理の実行枠を確保できなかった場合のハンドリング
+     * 
+     * @param e DatabaseBusyException
+     * @param model モデル
+     * @return エラーページ
+     */
+    @ExceptionHandler(DatabaseBusyException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public String handleDatabaseBusyException(DatabaseBusyException e, Model model) {
+        log.warn("データベース処理の実行枠を確保できません: {}", e.getMessage());
+        
+        model.addAttribute("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        model.addAttribute("error", "サービス混雑中");
+        model.addAttribute("message", e.getMessage());
+        
+        return "error";
+    }
+    
     /**
      * RuntimeException（実行時例外）のハンドリング
      * 
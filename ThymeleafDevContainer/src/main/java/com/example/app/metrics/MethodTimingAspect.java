@@ -0,0 +1,85 @@
+package com.example.app.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * サービス・リポジトリのメソッド実行時間の計測アスペクト
+ * 全てのpublicメソッドの実行時間をパーセンタイルヒストグラム付きのタイマーとして記録する
+ * タグ: layer（service/repository）、class、method、outcome（success/error）、exception
+ * Spring Dataリポジトリから継承したメソッド（findAll、saveなど）も、インターフェース名をclassとして記録する
+ */
+@Aspect
+@Component
+public class MethodTimingAspect {
+    
+    /** メトリクス名 */
+    public static final String METRIC_NAME = "app.method.invocations";
+    
+    private static final String APP_PACKAGE = "com.example.app.";
+    
+    private final MeterRegistry meterRegistry;
+    
+    /**
+     * コンストラクタ
+     * 
+     * @param meterRegistry メトリクスレジストリ
+     */
+    public MethodTimingAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+    
+    /**
+     * メソッドの実行時間を計測
+     * 
+     * @param joinPoint 実行対象のメソッド
+     * @return メソッドの戻り値
+     * @throws Throwable メソッドが送出した例外
+     */
+    @Around("execution(public * com.example.app.service..*(..))"
+        + " || execution(public * com.example.app.repository.*.*(..))"
+        + " || execution(public * com.example.app.repository.SampleRepository+.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            Class<?> type = typeOf(joinPoint);
+            sample.stop(Timer.builder(METRIC_NAME)
+                .description("サービス・リポジトリのメソッド実行時間")
+                .tag("layer", type.getPackageName().startsWith(APP_PACKAGE + "repository") ? "repository" : "service")
+                .tag("class", type.getSimpleName())
+                .tag("method", joinPoint.getSignature().getName())
+                .tag("outcome", "none".equals(exception) ? "success" : "error")
+                .tag("exception", exception)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        }
+    }
+    
+    /**
+     * 計測対象の型を取得
+     * Spring Dataリポジトリの実体はSimpleJpaRepositoryとなるため、プロキシが実装するアプリケーションのインターフェースを優先する
+     * 
+     * @param joinPoint 実行対象のメソッド
+     * @return 計測対象の型
+     */
+    private static Class<?> typeOf(ProceedingJoinPoint joinPoint) {
+        for (Class<?> type : joinPoint.getThis().getClass().getInterfaces()) {
+            if (type.getName().startsWith(APP_PACKAGE)) {
+                return type;
+            }
+        }
+        return ClassUtils.getUserClass(AopUtils.getTargetClass(joinPoint.getTarget()));
+    }
+}
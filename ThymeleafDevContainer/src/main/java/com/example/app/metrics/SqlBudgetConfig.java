@@ -0,0 +1,72 @@
+package com.example.app.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * SQL予算の監視設定クラス
+ * アプリケーションが使用するデータソース（dataSource）をdatasource-proxyで包み、
+ * JPA・JdbcTemplateのいずれから発行されたSQLもリクエスト単位で計測する
+ * app.sql-budget.enabled=falseの場合はデータソースを包まない
+ */
+@Configuration
+@EnableConfigurationProperties(SqlBudgetProperties.class)
+@ConditionalOnProperty(name = "app.sql-budget.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlBudgetConfig implements WebMvcConfigurer {
+    
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+    
+    private final SqlBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+    
+    /**
+     * コンストラクタ
+     * 
+     * @param properties SQL予算の設定
+     * @param meterRegistry メトリクスレジストリ
+     */
+    public SqlBudgetConfig(SqlBudgetProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+    
+    /**
+     * dataSourceをSQL計測用のプロキシで包むBeanPostProcessor
+     * 他のBeanより先に生成されるためstaticメソッドとし、設定は生成後に遅延取得する
+     * 
+     * @param properties SQL予算の設定
+     * @return BeanPostProcessor
+     */
+    @Bean
+    public static BeanPostProcessor sqlBudgetDataSourcePostProcessor(ObjectProvider<SqlBudgetProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!DATA_SOURCE_BEAN_NAME.equals(beanName) || !(bean instanceof DataSource dataSource)
+                    || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                return ProxyDataSourceBuilder.create(dataSource)
+                    .name(DATA_SOURCE_BEAN_NAME)
+                    .listener(new SqlBudgetListener(properties.getObject()))
+                    .build();
+            }
+        };
+    }
+    
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new SqlBudgetInterceptor(properties, meterRegistry));
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.app.metrics;
+
+/**
+ * リクエストのSQL発行数が予算を超えた場合の例外
+ * N+1問題などによる想定外のSQL発行を開発・テスト時に検出するために使用する
+ */
+public class SqlBudgetExceededException extends RuntimeException {
+    
+    private static final long serialVersionUID = 1L;
+    
+    /**
+     * コンストラクタ
+     * 
+     * @param message メッセージ
+     */
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.app.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * リクエストごとのSQL予算を監視するインターセプター
+ * コントローラーのメソッド単位で発行数とDB時間を集計し、メトリクスとして記録する
+ * 予算を超えたリクエストは警告ログを出力する（FAILモードではSQLの発行時に例外となる）
+ */
+public class SqlBudgetInterceptor implements AsyncHandlerInterceptor {
+    
+    private static final Logger log = LoggerFactory.getLogger(SqlBudgetInterceptor.class);
+    
+    private final SqlBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+    
+    /**
+     * コンストラクタ
+     * 
+     * @param properties SQL予算の設定
+     * @param meterRegistry メトリクスレジストリ
+     */
+    public SqlBudgetInterceptor(SqlBudgetProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            String endpoint = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+            SqlRequestStats.start(endpoint, properties.budgetFor(endpoint));
+        }
+        return true;
+    }
+    
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        SqlRequestStats stats = SqlRequestStats.finish();
+        if (stats == null) {
+            return;
+        }
+        
+        DistributionSummary.builder("app.sql.request.statements")
+            .description("1リクエストあたりのSQL発行数")
+            .tag("endpoint", stats.getEndpoint())
+            .register(meterRegistry)
+            .record(stats.getStatements());
+        Timer.builder("app.sql.request.time")
+            .description("1リクエストあたりのDB時間")
+            .tag("endpoint", stats.getEndpoint())
+            .register(meterRegistry)
+            .record(stats.getElapsedMillis(), TimeUnit.MILLISECONDS);
+        
+        if (stats.isOverBudget()) {
+            Counter.builder("app.sql.budget.exceeded")
+                .description("SQL予算を超えたリクエスト数")
+                .tag("endpoint", stats.getEndpoint())
+                .register(meterRegistry)
+                .increment();
+            log.warn("SQL予算を超えました（N+1問題の可能性があります）: endpoint={}, 発行数={}/{}, DB時間={}ms/{}ms",
+                stats.getEndpoint(), stats.getStatements(), stats.getBudget().maxStatements(),
+                stats.getElapsedMillis(), stats.getBudget().maxTime().toMillis());
+        }
+    }
+    
+    /**
+     * 非同期処理の開始時は、リクエストスレッドに紐付けた統計を破棄
+     * 非同期処理（ストリーミング出力など）で発行されるSQLは計測対象外とする
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        SqlRequestStats.finish();
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.app.metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * SQL実行のリスナー
+ * 実行ごとにリクエストの発行数とDB時間を加算し、低速SQLを一定の割合でバインド変数付きでログ出力する
+ * 通常の実行では加算のみを行い、文字列の組み立ては低速SQLを出力する場合に限るため、本番環境でも常時有効にできる
+ */
+public class SqlBudgetListener implements QueryExecutionListener {
+    
+    private static final Logger log = LoggerFactory.getLogger(SqlBudgetListener.class);
+    
+    private static final int MAX_PARAMETER_LENGTH = 100;
+    
+    private static final int MAX_LOGGED_BATCHES = 3;
+    
+    private final SqlBudgetProperties properties;
+    
+    /**
+     * コンストラクタ
+     * 
+     * @param properties SQL予算の設定
+     */
+    public SqlBudgetListener(SqlBudgetProperties properties) {
+        this.properties = properties;
+    }
+    
+    /**
+     * SQLの実行前に発行数を加算し、FAILモードで上限を超える場合は実行せずに例外を送出
+     */
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats == null) {
+            return;
+        }
+        int statements = stats.incrementStatements();
+        if (properties.mode() == SqlBudgetProperties.Mode.FAIL && statements > stats.getBudget().maxStatements()) {
+            throw new SqlBudgetExceededException("SQLの発行数が予算を超えました: endpoint=" + stats.getEndpoint()
+                + ", 上限=" + stats.getBudget().maxStatements());
+        }
+    }
+    
+    /**
+     * SQLの実行後にDB時間を加算し、低速SQLをサンプリングしてログ出力
+     */
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsed = execInfo.getElapsedTime();
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.addElapsed(elapsed);
+        }
+        
+        if (elapsed >= properties.slowThreshold().toMillis()
+            && ThreadLocalRandom.current().nextDouble() < properties.slowSampleRate()) {
+            for (QueryInfo queryInfo : queryInfoList) {
+                log.warn("低速SQLを検出しました: {}ms, endpoint={}, sql={}, params={}", elapsed,
+                    stats != null ? stats.getEndpoint() : "-", queryInfo.getQuery(), formatParameters(queryInfo));
+            }
+        }
+    }
+    
+    /**
+     * バインド変数を出力用に整形（長い値とバッチの件数は切り詰める）
+     * 
+     * @param queryInfo SQLの情報
+     * @return 整形したバインド変数
+     */
+    private static String formatParameters(QueryInfo queryInfo) {
+        List<List<ParameterSetOperation>> parametersList = queryInfo.getParametersList();
+        String formatted = parametersList.stream()
+            .limit(MAX_LOGGED_BATCHES)
+            .map(parameters -> parameters.stream()
+                .map(operation -> ParameterSetOperation.isSetNullParameterOperation(operation)
+                    ? "null" : truncate(String.valueOf(operation.getArgs()[1])))
+                .collect(Collectors.joining(", ", "[", "]")))
+            .collect(Collectors.joining(", "));
+        if (parametersList.size() > MAX_LOGGED_BATCHES) {
+            formatted += " ...（全" + parametersList.size() + "件）";
+        }
+        return formatted;
+    }
+    
+    private static String truncate(String value) {
+        return value.length() > MAX_PARAMETER_LENGTH ? value.substring(0, MAX_PARAMETER_LENGTH) + "..." : value;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.app.metrics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * リクエストごとのSQL予算の設定
+ * エンドポイント（コントローラーのクラス名.メソッド名）ごとにSQLの発行数とDB時間の上限を指定する
+ * 
+ * @param enabled SQLの計測を行うか
+ * @param mode 予算超過時の動作
+ * @param maxStatements 1リクエストあたりのSQL発行数の上限（エンドポイント個別の指定がない場合）
+ * @param maxTime 1リクエストあたりのDB時間の上限（エンドポイント個別の指定がない場合）
+ * @param slowThreshold 低速SQLとみなす実行時間
+ * @param slowSampleRate 低速SQLをバインド変数付きでログ出力する割合（0.0〜1.0）
+ * @param endpoints エンドポイントごとの予算（キーは「SampleController.index」の形式）
+ */
+@ConfigurationProperties("app.sql-budget")
+public record SqlBudgetProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("LOG") Mode mode,
+        @DefaultValue("50") int maxStatements,
+        @DefaultValue("1s") Duration maxTime,
+        @DefaultValue("200ms") Duration slowThreshold,
+        @DefaultValue("0.1") double slowSampleRate,
+        Map<String, Budget> endpoints) {
+    
+    /**
+     * 予算超過時の動作
+     */
+    public enum Mode {
+        /** 警告ログを出力する */
+        LOG,
+        /** 上限を超えるSQLの発行時に例外を送出する */
+        FAIL
+    }
+    
+    /**
+     * エンドポイント個別の予算（未指定の項目は全体の設定を使用）
+     * 
+     * @param maxStatements SQL発行数の上限
+     * @param maxTime DB時間の上限
+     */
+    public record Budget(Integer maxStatements, Duration maxTime) {
+    }
+    
+    /**
+     * エンドポイントの予算を取得
+     * 
+     * @param endpoint エンドポイント
+     * @return 全体の設定で補完した予算
+     */
+    public Budget budgetFor(String endpoint) {
+        Budget budget = endpoints != null ? endpoints.get(endpoint) : null;
+        if (budget == null) {
+            return new Budget(maxStatements, maxTime);
+        }
+        return new Budget(budget.maxStatements() != null ? budget.maxStatements() : maxStatements,
+            budget.maxTime() != null ? budget.maxTime() : maxTime);
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.app.metrics;
+
+/**
+ * 1リクエスト内のSQL実行統計
+ * リクエストを処理するスレッドに紐付けて保持し、SQLの実行ごとに加算する
+ */
+public final class SqlRequestStats {
+    
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+    
+    private final String endpoint;
+    private final SqlBudgetProperties.Budget budget;
+    private int statements;
+    private long elapsedMillis;
+    
+    private SqlRequestStats(String endpoint, SqlBudgetProperties.Budget budget) {
+        this.endpoint = endpoint;
+        this.budget = budget;
+    }
+    
+    /**
+     * 現在のスレッドで計測を開始
+     * 
+     * @param endpoint エンドポイント
+     * @param budget 予算
+     * @return 統計
+     */
+    static SqlRequestStats start(String endpoint, SqlBudgetProperties.Budget budget) {
+        SqlRequestStats stats = new SqlRequestStats(endpoint, budget);
+        CURRENT.set(stats);
+        return stats;
+    }
+    
+    /**
+     * 現在のスレッドの統計を取得
+     * 
+     * @return 統計（リクエスト処理中でない場合はnull）
+     */
+    static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+    
+    /**
+     * 現在のスレッドの計測を終了
+     * 
+     * @return 統計（計測していない場合はnull）
+     */
+    static SqlRequestStats finish() {
+        SqlRequestStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+    
+    /**
+     * SQLの発行を1件加算
+     * 
+     * @return 加算後の発行数
+     */
+    int incrementStatements() {
+        return ++statements;
+    }
+    
+    /**
+     * DB時間を加算
+     * 
+     * @param millis 実行時間（ミリ秒）
+     */
+    void addElapsed(long millis) {
+        elapsedMillis += millis;
+    }
+    
+    String getEndpoint() {
+        return endpoint;
+    }
+    
+    SqlBudgetProperties.Budget getBudget() {
+        return budget;
+    }
+    
+    int getStatements() {
+        return statements;
+    }
+    
+    long getElapsedMillis() {
+        return elapsedMillis;
+    }
+    
+    /**
+     * 予算を超えているか判定
+     * 
+     * @return 発行数またはDB時間のいずれかが上限を超えている場合はtrue
+     */
+    boolean isOverBudget() {
+        return statements > budget.maxStatements() || elapsedMillis > budget.maxTime().toMillis();
+    }
+}
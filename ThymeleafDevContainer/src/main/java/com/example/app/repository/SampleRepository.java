@@ -1,11 +1,14 @@
 package com.example.app.repository;
 
+import com.example.app.dto.SampleRecord;
 import com.example.app.entity.SampleEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -16,11 +19,51 @@ import java.util.List;
 public interface SampleRepository extends JpaRepository<SampleEntity, Long> {
     
     /**
-     * 名前でエンティティを検索
+     * 名前でレコードを検索
+     * 検索結果はキャッシュされるため、エンティティではなく読み取り専用のレコードとして射影する
      * 
      * @param name 名前
-     * @return エンティティのリスト
+     * @return ID昇順のレコードのリスト
      */
-    @Query("SELECT s FROM SampleEntity s WHERE s.name = :name")
-    List<SampleEntity> findByName(@Param("name") String name);
+    @Query("SELECT new com.example.app.dto.SampleRecord(s.id, s.name, s.createdAt, s.updatedAt) "
+        + "FROM SampleEntity s WHERE s.name = :name ORDER BY s.id ASC")
+    List<SampleRecord> findByName(@Param("name") String name);
+    
+    /**
+     * 指定IDより後ろのレコードをID昇順で取得（キーセットページネーション）
+     * 主キーインデックスを範囲走査するため、テーブルの件数に関わらず一定時間で応答する
+     * 一覧表示専用のため、エンティティではなく読み取り専用のレコードとして射影する
+     * 
+     * @param afterId 境界ID（このIDより大きいIDのみ取得）
+     * @param limit 取得件数の上限
+     * @return ID昇順のレコードのリスト
+     */
+    @Query("SELECT new com.example.app.dto.SampleRecord(s.id, s.name, s.createdAt, s.updatedAt) "
+        + "FROM SampleEntity s WHERE s.id > :afterId ORDER BY s.id ASC")
+    List<SampleRecord> findNextPage(@Param("afterId") long afterId, Limit limit);
+    
+    /**
+     * 指定IDより前のレコードをID降順で取得（キーセットページネーション）
+     * 
+     * @param beforeId 境界ID（このIDより小さいIDのみ取得）
+     * @param limit 取得件数の上限
+     * @return ID降順のレコードのリスト
+     */
+    @Query("SELECT new com.example.app.dto.SampleRecord(s.id, s.name, s.createdAt, s.updatedAt) "
+        + "FROM SampleEntity s WHERE s.id < :beforeId ORDER BY s.id DESC")
+    List<SampleRecord> findPreviousPage(@Param("beforeId") long beforeId, Limit limit);
+    
+    /**
+     * 作成日時が指定範囲内のレコードを作成日時順に取得
+     * sample_tableはcreated_atでパーティション分割されているため、範囲外のパーティションは走査されない
+     * 
+     * @param from 範囲の開始日時（含む）
+     * @param to 範囲の終了日時（含まない）
+     * @param limit 取得件数の上限
+     * @return 作成日時・ID昇順のレコードのリスト
+     */
+    @Query("SELECT new com.example.app.dto.SampleRecord(s.id, s.name, s.createdAt, s.updatedAt) "
+        + "FROM SampleEntity s WHERE s.createdAt >= :from AND s.createdAt < :to ORDER BY s.createdAt ASC, s.id ASC")
+    List<SampleRecord> findCreatedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                          Limit limit);
 }
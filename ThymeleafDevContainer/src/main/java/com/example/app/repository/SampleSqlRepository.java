@@ -0,0 +1,252 @@
+package com.example.app.repository;
+
+import com.example.app.dto.SampleRecord;
+import com.example.app.dto.SampleUpdateResult;
+import com.example.app.repository.sql.SqlTemplate;
+import com.example.app.repository.sql.SqlTemplateRegistry;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * サンプルSQLリポジトリクラス
+ * META-INF/com/example/app/repository/SampleRepository/ 配下の2-way SQLをJDBCで直接実行し、
+ * 結果をエンティティではなく読み取り専用のレコードにマッピングする
+ * 更新・削除は事前の読み込みを行わず、RETURNING句付きの1文で実行する
+ */
+@Repository
+public class SampleSqlRepository {
+    
+    /**
+     * sample_tableの行をSampleRecordに変換するマッパー
+     */
+    static final RowMapper<SampleRecord> SAMPLE_RECORD_MAPPER = (rs, rowNum) -> new SampleRecord(
+        rs.getLong("id"),
+        rs.getString("name"),
+        rs.getObject("created_at", LocalDateTime.class),
+        rs.getObject("updated_at", LocalDateTime.class));
+    
+    /**
+     * 更新結果の行をSampleUpdateResultに変換するマッパー
+     */
+    private static final RowMapper<SampleUpdateResult> UPDATE_RESULT_MAPPER = (rs, rowNum) ->
+        new SampleUpdateResult(SAMPLE_RECORD_MAPPER.mapRow(rs, rowNum), rs.getString("old_name"));
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final SqlTemplate findAllSql;
+    private final SqlTemplate findByIdSql;
+    private final SqlTemplate findByNameSql;
+    private final SqlTemplate searchByNameSql;
+    private final SqlTemplate updateSql;
+    private final SqlTemplate deleteByIdSql;
+    private final SqlTemplate archiveBatchSql;
+    private final SqlTemplate insertAllSql;
+    private final SqlTemplate countUpToSql;
+    private final SqlTemplate countByNameUpToSql;
+    private final SqlTemplate estimateCountSql;
+    private final SqlTemplate estimateCountByNameSql;
+    private final SqlTemplate disableDailyStatsSql;
+    
+    /**
+     * コンストラクタ
+     * 
+     * @param jdbcTemplate JDBCテンプレート
+     * @param registry SQLファイルのレジストリ
+     * @param objectMapper 実行計画（JSON）の解析用
+     */
+    public SampleSqlRepository(JdbcTemplate jdbcTemplate, SqlTemplateRegistry registry, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.findAllSql = registry.get(SampleRepository.class, "findAll");
+        this.findByIdSql = registry.get(SampleRepository.class, "findById");
+        this.findByNameSql = registry.get(SampleRepository.class, "findByName");
+        this.searchByNameSql = registry.get(SampleRepository.class, "searchByName");
+        this.updateSql = registry.get(SampleRepository.class, "update");
+        this.deleteByIdSql = registry.get(SampleRepository.class, "deleteById");
+        this.archiveBatchSql = registry.get(SampleRepository.class, "archiveBatch");
+        this.insertAllSql = registry.get(SampleRepository.class, "insertAll");
+        this.countUpToSql = registry.get(SampleRepository.class, "countUpTo");
+        this.countByNameUpToSql = registry.get(SampleRepository.class, "countByNameUpTo");
+        this.estimateCountSql = registry.get(SampleRepository.class, "estimateCount");
+        this.estimateCountByNameSql = registry.get(SampleRepository.class, "estimateCountByName");
+        this.disableDailyStatsSql = registry.get(SampleRepository.class, "disableDailyStats");
+    }
+    
+    /**
+     * 全てのレコードをID順に取得
+     * 
+     * @return レコードのリスト
+     */
+    public List<SampleRecord> findAll() {
+        return jdbcTemplate.query(findAllSql.getSql(), SAMPLE_RECORD_MAPPER);
+    }
+    
+    /**
+     * IDでレコードを取得
+     * 
+     * @param id ID
+     * @return レコード（存在しない場合はOptional.empty()）
+     */
+    public Optional<SampleRecord> findById(long id) {
+        List<SampleRecord> records = jdbcTemplate.query(findByIdSql.getSql(), SAMPLE_RECORD_MAPPER,
+            findByIdSql.bind(Map.of("id", id)));
+        return records.stream().findFirst();
+    }
+    
+    /**
+     * 名前でレコードを検索
+     * 
+     * @param name 名前
+     * @return レコードのリスト
+     */
+    public List<SampleRecord> findByName(String name) {
+        return jdbcTemplate.query(findByNameSql.getSql(), SAMPLE_RECORD_MAPPER,
+            findByNameSql.bind(Map.of("name", name)));
+    }
+    
+    /**
+     * 名前の部分一致またはトライグラム類似度でレコードを検索
+     * 類似度・部分一致の条件ごとにidx_sample_table_name_trgm_gist（GiSTインデックス）のKNN探索で近い順に最大件数まで取得し、
+     * 候補を合わせて類似度の高い順に返却する（一致する全行を並べ替えない）
+     * 最大件数の境界で類似度が同じ行が複数ある場合、どの行が含まれるかは不定となる
+     * 
+     * @param keyword 検索キーワード
+     * @param limit 最大件数
+     * @return 類似度の高い順のレコードのリスト
+     */
+    public List<SampleRecord> searchByName(String keyword, int limit) {
+        String pattern = "%" + SqlTemplate.escapeLike(keyword) + "%";
+        return jdbcTemplate.query(searchByNameSql.getSql(), SAMPLE_RECORD_MAPPER,
+            searchByNameSql.bind(Map.of("pattern", pattern, "keyword", keyword, "limit", limit)));
+    }
+    
+    /**
+     * 行数を上限まで数える
+     * 上限+1行を読んだ時点で走査を打ち切るため、行数が多くても読み込む行数は上限に比例する
+     * 
+     * @param limit 上限
+     * @return 行数（上限を超える場合はlimit + 1）
+     */
+    public long countUpTo(long limit) {
+        return jdbcTemplate.queryForObject(countUpToSql.getSql(), Long.class,
+            countUpToSql.bind(Map.of("limit", limit + 1)));
+    }
+    
+    /**
+     * 名前の部分一致またはトライグラム類似度で検索した場合の件数を上限まで数える
+     * 
+     * @param keyword 検索キーワード
+     * @param limit 上限
+     * @return 件数（上限を超える場合はlimit + 1）
+     */
+    public long countByNameUpTo(String keyword, long limit) {
+        String pattern = "%" + SqlTemplate.escapeLike(keyword) + "%";
+        return jdbcTemplate.queryForObject(countByNameUpToSql.getSql(), Long.class,
+            countByNameUpToSql.bind(Map.of("pattern", pattern, "keyword", keyword, "limit", limit + 1)));
+    }
+    
+    /**
+     * 統計情報（pg_class.reltuples）から行数を推定
+     * パーティションテーブル自体は行数を持たないため、各パーティションの推定行数を合計する
+     * 一度もANALYZEされていないパーティションは0件として扱う
+     * 
+     * @return 推定行数
+     */
+    public long estimateCount() {
+        return jdbcTemplate.queryForObject(estimateCountSql.getSql(), Long.class);
+    }
+    
+    /**
+     * 名前の部分一致またはトライグラム類似度で検索した場合の件数を実行計画の推定行数から取得
+     * 
+     * @param keyword 検索キーワード
+     * @return 推定件数
+     */
+    public long estimateCountByName(String keyword) {
+        String pattern = "%" + SqlTemplate.escapeLike(keyword) + "%";
+        String plan = jdbcTemplate.queryForObject(estimateCountByNameSql.getSql(), String.class,
+            estimateCountByNameSql.bind(Map.of("pattern", pattern, "keyword", keyword)));
+        try {
+            return objectMapper.readTree(plan).path(0).path("Plan").path("Plan Rows").asLong();
+        } catch (JsonProcessingException e) {
+            throw new DataRetrievalFailureException("実行計画を解析できません", e);
+        }
+    }
+    
+    /**
+     * 複数の行を1文のINSERTで作成
+     * IDは行ごとにシーケンスから採番する（JPAのpooledオプティマイザーとは採番範囲が重複しない）
+     * 
+     * @param names 名前のリスト
+     * @param createdAt 作成日時（更新日時にも同じ値を設定）
+     * @return 作成したレコードのリスト（入力順）
+     */
+    public List<SampleRecord> insertAll(List<String> names, LocalDateTime createdAt) {
+        return jdbcTemplate.query(insertAllSql.getSql(),
+            (rs, rowNum) -> new SampleRecord(rs.getLong("id"), rs.getString("name"), createdAt, createdAt),
+            insertAllSql.bind(Map.of("names", names.toArray(String[]::new), "createdAt", createdAt)));
+    }
+    
+    /**
+     * バージョンが一致する場合のみ名前と更新日時を更新し、バージョンを1加算（compare-and-set）
+     * 行ロックを事前に取得せず、更新件数が0件であれば対象行が存在しないか他のトランザクションが先に更新している
+     * 
+     * @param id ID
+     * @param name 新しい名前
+     * @param version 編集開始時のバージョン
+     * @param updatedAt 更新日時
+     * @return 更新結果（更新件数が0件の場合はOptional.empty()）
+     */
+    public Optional<SampleUpdateResult> update(long id, String name, long version, LocalDateTime updatedAt) {
+        List<SampleUpdateResult> results = jdbcTemplate.query(updateSql.getSql(), UPDATE_RESULT_MAPPER,
+            updateSql.bind(Map.of("id", id, "name", name, "version", version, "updatedAt", updatedAt)));
+        return results.stream().findFirst();
+    }
+    
+    /**
+     * IDで行を削除
+     * 
+     * @param id ID
+     * @return 削除された行の名前（対象行が存在しない場合はOptional.empty()）
+     */
+    public Optional<String> deleteById(long id) {
+        List<String> names = jdbcTemplate.query(deleteByIdSql.getSql(), (rs, rowNum) -> rs.getString("name"),
+            deleteByIdSql.bind(Map.of("id", id)));
+        return names.stream().findFirst();
+    }
+    
+    /**
+     * 基準日時より前に作成された行を1バッチ分アーカイブテーブルへ移動
+     * 作成日時・IDの順にカーソル位置より後ろの行を対象とし、他のトランザクションがロック中の行は待たずに読み飛ばす
+     * 
+     * @param cutoff 基準日時（これより前に作成された行が対象）
+     * @param afterCreatedAt カーソル位置の作成日時
+     * @param afterId カーソル位置のID
+     * @param batchSize 1バッチの最大件数
+     * @param archivedAt アーカイブ日時
+     * @return 移動した行のリスト（順不同）
+     */
+    public List<SampleRecord> archiveBatch(LocalDateTime cutoff, LocalDateTime afterCreatedAt, long afterId,
+                                           int batchSize, LocalDateTime archivedAt) {
+        return jdbcTemplate.query(archiveBatchSql.getSql(), SAMPLE_RECORD_MAPPER,
+            archiveBatchSql.bind(Map.of("cutoff", cutoff, "afterCreatedAt", afterCreatedAt, "afterId", afterId,
+                "batchSize", batchSize, "archivedAt", archivedAt)));
+    }
+    
+    /**
+     * 現在のトランザクションでの変更を日別統計（sample_daily_stats）に集計しないよう設定
+     * トランザクションの終了時に設定は破棄される
+     */
+    public void disableDailyStats() {
+        jdbcTemplate.execute(disableDailyStatsSql.getSql());
+    }
+}
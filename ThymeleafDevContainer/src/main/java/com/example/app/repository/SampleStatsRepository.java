@@ -0,0 +1,57 @@
+package com.example.app.repository;
+
+import com.example.app.dto.DailySampleStats;
+import com.example.app.repository.sql.SqlTemplate;
+import com.example.app.repository.sql.SqlTemplateRegistry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 日別統計リポジトリクラス
+ * sample_tableのトリガーが文単位で加算するsample_daily_stats（docker/init.sql）を参照する
+ * sample_tableを集計しないため、参照のコストは行数ではなく日数に比例する
+ */
+@Repository
+public class SampleStatsRepository {
+    
+    /**
+     * 集計結果の行をDailySampleStatsに変換するマッパー
+     */
+    private static final RowMapper<DailySampleStats> DAILY_STATS_MAPPER = (rs, rowNum) -> new DailySampleStats(
+        rs.getObject("stat_date", LocalDate.class),
+        rs.getLong("created_count"),
+        rs.getLong("updated_count"),
+        rs.getLong("deleted_count"));
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final SqlTemplate findDailySql;
+    
+    /**
+     * コンストラクタ
+     * 
+     * @param jdbcTemplate JDBCテンプレート
+     * @param registry SQLファイルのレジストリ
+     */
+    public SampleStatsRepository(JdbcTemplate jdbcTemplate, SqlTemplateRegistry registry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.findDailySql = registry.get(SampleStatsRepository.class, "findDaily");
+    }
+    
+    /**
+     * 期間内の日別件数を取得
+     * 1日を分割した行（slot）を合計し、変更のなかった日も0件として返却する
+     * 
+     * @param from 開始日（含む）
+     * @param to 終了日（含む）
+     * @return 日付順の日別件数
+     */
+    public List<DailySampleStats> findDaily(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(findDailySql.getSql(), DAILY_STATS_MAPPER,
+            findDailySql.bind(Map.of("from", from, "to", to)));
+    }
+}
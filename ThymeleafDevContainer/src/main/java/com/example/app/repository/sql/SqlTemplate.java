@@ -0,0 +1,218 @@
+package com.example.app.repository.sql;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 2-way SQLを解析したテンプレート
+ * バインド変数コメント（ブロックコメント内に変数名のみを記述したもの）と直後のテスト値を
+ * JDBCのプレースホルダー（?）に置換し、出現順のパラメーター名を保持する
+ * テスト値は文字列リテラル・数値・単語（TRUEなど）のいずれかで、実行時には取り除かれる
+ * それ以外のコメントはSQLの一部としてそのまま残す
+ */
+public final class SqlTemplate {
+    
+    private final String name;
+    private final String sql;
+    private final List<String> parameterNames;
+    
+    private SqlTemplate(String name, String sql, List<String> parameterNames) {
+        this.name = name;
+        this.sql = sql;
+        this.parameterNames = List.copyOf(parameterNames);
+    }
+    
+    /**
+     * 2-way SQLを解析
+     * 
+     * @param name テンプレート名（エラーメッセージ用）
+     * @param source 2-way SQL
+     * @return 解析済みテンプレート
+     * @throws IllegalArgumentException SQLの構文が不正な場合
+     */
+    public static SqlTemplate parse(String name, String source) {
+        StringBuilder sql = new StringBuilder(source.length());
+        List<String> parameterNames = new ArrayList<>();
+        int length = source.length();
+        int i = 0;
+        
+        while (i < length) {
+            char c = source.charAt(i);
+            
+            // 文字列リテラルはそのまま出力
+            if (c == '\'') {
+                int end = skipStringLiteral(name, source, i);
+                sql.append(source, i, end);
+                i = end;
+                continue;
+            }
+            
+            // 行コメントはそのまま出力
+            if (c == '-' && i + 1 < length && source.charAt(i + 1) == '-') {
+                int end = source.indexOf('\n', i);
+                end = end < 0 ? length : end;
+                sql.append(source, i, end);
+                i = end;
+                continue;
+            }
+            
+            // ブロックコメント：識別子のみを含む場合はバインド変数として扱う
+            if (c == '/' && i + 1 < length && source.charAt(i + 1) == '*') {
+                int end = source.indexOf("*/", i + 2);
+                if (end < 0) {
+                    throw new IllegalArgumentException("コメントが閉じられていません: " + name);
+                }
+                String content = source.substring(i + 2, end).trim();
+                if (isIdentifier(content)) {
+                    parameterNames.add(content);
+                    sql.append('?');
+                    i = skipTestValue(name, source, end + 2);
+                } else {
+                    sql.append(source, i, end + 2);
+                    i = end + 2;
+                }
+                continue;
+            }
+            
+            sql.append(c);
+            i++;
+        }
+        
+        return new SqlTemplate(name, sql.toString().strip(), parameterNames);
+    }
+    
+    /**
+     * LIKE検索の特殊文字（\、%、_）をエスケープ
+     * SQL側ではESCAPE '\'を指定すること
+     * 
+     * @param value 検索文字列
+     * @return エスケープ済みの文字列
+     */
+    public static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' || c == '%' || c == '_') {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+    
+    /**
+     * パラメーターをプレースホルダーの出現順に並べる
+     * 
+     * @param parameters パラメーター名と値のマップ
+     * @return JDBCに渡すパラメーター配列
+     * @throws IllegalArgumentException 必要なパラメーターが不足している場合
+     */
+    public Object[] bind(Map<String, ?> parameters) {
+        Object[] values = new Object[parameterNames.size()];
+        for (int i = 0; i < values.length; i++) {
+            String parameterName = parameterNames.get(i);
+            if (!parameters.containsKey(parameterName)) {
+                throw new IllegalArgumentException(
+                    "パラメーターが指定されていません: " + parameterName + " (" + name + ")");
+            }
+            values[i] = parameters.get(parameterName);
+        }
+        return values;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public String getSql() {
+        return sql;
+    }
+    
+    public List<String> getParameterNames() {
+        return parameterNames;
+    }
+    
+    /**
+     * 文字列リテラルの終端位置を取得（''によるエスケープに対応）
+     * 
+     * @param name テンプレート名
+     * @param source SQL
+     * @param start 開始位置（'の位置）
+     * @return 終端の次の位置
+     */
+    private static int skipStringLiteral(String name, String source, int start) {
+        int i = start + 1;
+        while (i < source.length()) {
+            if (source.charAt(i) == '\'') {
+                if (i + 1 < source.length() && source.charAt(i + 1) == '\'') {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        throw new IllegalArgumentException("文字列リテラルが閉じられていません: " + name);
+    }
+    
+    /**
+     * バインド変数コメント直後のテスト値を読み飛ばす
+     * 
+     * @param name テンプレート名
+     * @param source SQL
+     * @param start コメント終端の次の位置
+     * @return テスト値の次の位置
+     */
+    private static int skipTestValue(String name, String source, int start) {
+        if (start >= source.length()) {
+            throw new IllegalArgumentException("バインド変数の直後にテスト値がありません: " + name);
+        }
+        char c = source.charAt(start);
+        if (c == '\'') {
+            return skipStringLiteral(name, source, start);
+        }
+        int i = start;
+        if (c == '-' || c == '+') {
+            i++;
+        }
+        int valueStart = i;
+        while (i < source.length()
+            && (Character.isLetterOrDigit(source.charAt(i)) || source.charAt(i) == '_' || source.charAt(i) == '.')) {
+            i++;
+        }
+        if (i == valueStart) {
+            throw new IllegalArgumentException("バインド変数の直後にテスト値がありません: " + name);
+        }
+        return i;
+    }
+    
+    /**
+     * バインド変数名として有効な文字列（英字またはアンダースコアで始まる英数字）かどうか
+     * 
+     * @param value 文字列
+     * @return バインド変数名の場合はtrue
+     */
+    private static boolean isIdentifier(String value) {
+        if (value.isEmpty() || !isIdentifierStart(value.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!isIdentifierStart(c) && !(c >= '0' && c <= '9')) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * バインド変数名の先頭に使用できる文字かどうか
+     * 
+     * @param c 文字
+     * @return 英字またはアンダースコアの場合はtrue
+     */
+    private static boolean isIdentifierStart(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+    }
+}
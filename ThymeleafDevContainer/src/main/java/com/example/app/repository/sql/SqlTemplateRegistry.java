@@ -0,0 +1,92 @@
+package com.example.app.repository.sql;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 2-way SQLファイルのレジストリ
+ * 起動時にMETA-INF配下のSQLファイルを読み込んで解析し、解析済みテンプレートをキャッシュする
+ * SQLファイルはMETA-INF/リポジトリのパッケージ/リポジトリ名/メソッド名.sql に配置する
+ */
+@Component
+public class SqlTemplateRegistry {
+    
+    private static final Logger log = LoggerFactory.getLogger(SqlTemplateRegistry.class);
+    
+    private static final String ROOT = "META-INF/";
+    
+    private static final String EXTENSION = ".sql";
+    
+    private final ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+    
+    private final Map<String, SqlTemplate> templates = new ConcurrentHashMap<>();
+    
+    @Value("${app.sql.location:classpath*:META-INF/com/example/app/**/*.sql}")
+    private String location;
+    
+    /**
+     * 起動時に全てのSQLファイルを読み込んで解析
+     * 構文が不正なファイルが存在する場合は起動を失敗させる
+     * 
+     * @throws IOException SQLファイルの読み込みに失敗した場合
+     */
+    @PostConstruct
+    public void load() throws IOException {
+        for (Resource resource : resolver.getResources(location)) {
+            String key = toKey(resource);
+            if (key == null) {
+                continue;
+            }
+            try (InputStream in = resource.getInputStream()) {
+                String source = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                templates.put(key, SqlTemplate.parse(key, source));
+            }
+        }
+        log.info("SQLファイルを読み込みました: 件数={}", templates.size());
+    }
+    
+    /**
+     * 解析済みテンプレートを取得
+     * 
+     * @param repositoryType SQLファイルを所有するリポジトリの型
+     * @param methodName メソッド名（拡張子を除くファイル名）
+     * @return 解析済みテンプレート
+     * @throws IllegalStateException SQLファイルが存在しない場合
+     */
+    public SqlTemplate get(Class<?> repositoryType, String methodName) {
+        String key = repositoryType.getName().replace('.', '/') + "/" + methodName;
+        SqlTemplate template = templates.get(key);
+        if (template == null) {
+            throw new IllegalStateException("SQLファイルが見つかりません: " + ROOT + key + EXTENSION);
+        }
+        return template;
+    }
+    
+    /**
+     * リソースのURLからキャッシュのキー（META-INF/以降、拡張子なし）を生成
+     * 
+     * @param resource SQLファイル
+     * @return キー（META-INF配下でない場合はnull）
+     * @throws IOException URLの取得に失敗した場合
+     */
+    private static String toKey(Resource resource) throws IOException {
+        String url = resource.getURL().toString();
+        int start = url.lastIndexOf(ROOT);
+        if (start < 0 || !url.endsWith(EXTENSION)) {
+            return null;
+        }
+        return url.substring(start + ROOT.length(), url.length() - EXTENSION.length());
+    }
+}
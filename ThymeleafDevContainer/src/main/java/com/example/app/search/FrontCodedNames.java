@@ -0,0 +1,250 @@
+package com.example.app.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 名前ごとの件数を保持する不変の整列済み配列（フロントコーディング）
+ * 名前を昇順に並べてBLOCK_SIZE件ごとのブロックに分け、ブロックの先頭の名前のみ全体を保持し、
+ * 以降の名前は直前の名前との共通接頭辞の長さと残りの文字列のみを保持する
+ * 前方一致の検索はブロックの先頭を二分探索し、該当するブロックから順に復元する
+ */
+final class FrontCodedNames {
+    
+    /** 1ブロックあたりの名前の数 */
+    static final int BLOCK_SIZE = 16;
+    
+    /** 空の配列 */
+    static final FrontCodedNames EMPTY = new Builder().build();
+    
+    private final int size;
+    
+    /** ブロックの先頭の名前 */
+    private final String[] heads;
+    
+    /** 直前の名前との共通接頭辞の長さ（ブロックの先頭は0） */
+    private final int[] prefixLengths;
+    
+    /** 残りの文字列の開始位置（size + 1件、ブロックの先頭は空） */
+    private final int[] suffixOffsets;
+    
+    /** 残りの文字列を連結した文字配列 */
+    private final char[] suffixes;
+    
+    /** 名前ごとの件数 */
+    private final long[] counts;
+    
+    private FrontCodedNames(int size, String[] heads, int[] prefixLengths, int[] suffixOffsets, char[] suffixes,
+                            long[] counts) {
+        this.size = size;
+        this.heads = heads;
+        this.prefixLengths = prefixLengths;
+        this.suffixOffsets = suffixOffsets;
+        this.suffixes = suffixes;
+        this.counts = counts;
+    }
+    
+    /**
+     * 名前の種類数を取得
+     * 
+     * @return 名前の種類数
+     */
+    int size() {
+        return size;
+    }
+    
+    /**
+     * 名前の件数を取得
+     * 
+     * @param name 名前
+     * @return 件数（存在しない場合は0）
+     */
+    long count(String name) {
+        Cursor cursor = cursor(name);
+        return cursor.hasNext() && cursor.name().equals(name) ? cursor.count() : 0;
+    }
+    
+    /**
+     * 指定した文字列以上の最初の名前から、名前順に読み進めるカーソルを取得
+     * 
+     * @param from 開始位置の文字列
+     * @return カーソル
+     */
+    Cursor cursor(String from) {
+        // 先頭の名前がfrom以下である最後のブロックから読み始める
+        int low = 0;
+        int high = heads.length - 1;
+        int block = 0;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (heads[mid].compareTo(from) <= 0) {
+                block = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        Cursor cursor = new Cursor(block * BLOCK_SIZE);
+        while (cursor.hasNext() && cursor.name().compareTo(from) < 0) {
+            cursor.advance();
+        }
+        return cursor;
+    }
+    
+    /**
+     * 名前順に読み進めるカーソル
+     * 直前の名前を保持し、共通接頭辞と残りの文字列から次の名前を復元する
+     */
+    final class Cursor {
+        
+        private int position;
+        private String name;
+        
+        private Cursor(int position) {
+            this.position = position;
+            this.name = position < size ? decode(position, null) : null;
+        }
+        
+        /**
+         * 現在の位置に名前があるか
+         * 
+         * @return 名前がある場合はtrue
+         */
+        boolean hasNext() {
+            return position < size;
+        }
+        
+        /**
+         * 現在の位置の名前を取得
+         * 
+         * @return 名前
+         */
+        String name() {
+            return name;
+        }
+        
+        /**
+         * 現在の位置の件数を取得
+         * 
+         * @return 件数
+         */
+        long count() {
+            return counts[position];
+        }
+        
+        /**
+         * 次の名前へ進める
+         */
+        void advance() {
+            position++;
+            name = position < size ? decode(position, name) : null;
+        }
+    }
+    
+    /**
+     * 指定位置の名前を復元
+     * 
+     * @param position 位置
+     * @param previous 直前の名前（ブロックの先頭の場合は不要）
+     * @return 名前
+     */
+    private String decode(int position, String previous) {
+        if (position % BLOCK_SIZE == 0) {
+            return heads[position / BLOCK_SIZE];
+        }
+        int prefixLength = prefixLengths[position];
+        int start = suffixOffsets[position];
+        int end = suffixOffsets[position + 1];
+        StringBuilder builder = new StringBuilder(prefixLength + end - start);
+        builder.append(previous, 0, prefixLength);
+        builder.append(suffixes, start, end - start);
+        return builder.toString();
+    }
+    
+    /**
+     * 共通接頭辞の長さを取得
+     * 
+     * @param a 文字列
+     * @param b 文字列
+     * @return 共通接頭辞の長さ
+     */
+    private static int commonPrefixLength(String a, String b) {
+        int max = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < max && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+    
+    /**
+     * 名前と件数を追加して配列を構築するビルダー
+     * 追加の順序は任意で、構築時に名前順に並べ替える（同じ名前を複数回追加した場合は件数を合算する）
+     */
+    static final class Builder {
+        
+        private final List<Entry> entries = new ArrayList<>();
+        
+        /**
+         * 名前と件数を追加
+         * 
+         * @param name 名前
+         * @param count 件数（0以下の場合は追加しない）
+         * @return このビルダー
+         */
+        Builder add(String name, long count) {
+            if (name != null && count > 0) {
+                entries.add(new Entry(name, count));
+            }
+            return this;
+        }
+        
+        /**
+         * 配列を構築
+         * 
+         * @return 配列
+         */
+        FrontCodedNames build() {
+            entries.sort(Comparator.comparing(Entry::name));
+            List<String> names = new ArrayList<>(entries.size());
+            List<Long> mergedCounts = new ArrayList<>(entries.size());
+            for (Entry entry : entries) {
+                int last = names.size() - 1;
+                if (last >= 0 && names.get(last).equals(entry.name())) {
+                    mergedCounts.set(last, mergedCounts.get(last) + entry.count());
+                } else {
+                    names.add(entry.name());
+                    mergedCounts.add(entry.count());
+                }
+            }
+            
+            int size = names.size();
+            String[] heads = new String[(size + BLOCK_SIZE - 1) / BLOCK_SIZE];
+            int[] prefixLengths = new int[size];
+            int[] suffixOffsets = new int[size + 1];
+            long[] counts = new long[size];
+            StringBuilder suffixes = new StringBuilder();
+            for (int i = 0; i < size; i++) {
+                String name = names.get(i);
+                counts[i] = mergedCounts.get(i);
+                suffixOffsets[i] = suffixes.length();
+                if (i % BLOCK_SIZE == 0) {
+                    heads[i / BLOCK_SIZE] = name;
+                    continue;
+                }
+                int prefixLength = commonPrefixLength(names.get(i - 1), name);
+                prefixLengths[i] = prefixLength;
+                suffixes.append(name, prefixLength, name.length());
+            }
+            suffixOffsets[size] = suffixes.length();
+            
+            char[] suffixChars = new char[suffixes.length()];
+            suffixes.getChars(0, suffixes.length(), suffixChars, 0);
+            return new FrontCodedNames(size, heads, prefixLengths, suffixOffsets, suffixChars, counts);
+        }
+        
+        private record Entry(String name, long count) {
+        }
+    }
+}
@@ -0,0 +1,411 @@
+package com.example.app.search;
+
+import com.example.app.event.SampleChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 名前の前方一致インデックス（オートコンプリート用）
+ * 名前ごとの件数をフロントコーディングした不変の整列済み配列（FrontCodedNames）で保持し、
+ * 前方一致の候補をデータベースに問い合わせずに返却する
+ * 変更イベントはコミット後に小さな差分（名前ごとの件数の増減）へ反映し、検索時に配列と差分を名前順に突き合わせる
+ * 配列の再構築（起動時・定期実行・一括取り込み時の全件読み込み、差分が大きくなった場合の統合）は専用のスレッドで行い、
+ * 再構築中に発生した変更はバッファに溜めて、差し替えの直前に新しい差分として再適用する
+ * 全件の読み込みの開始と同時にコミットされた変更は二重に反映される場合があるため、定期的に全件を再読み込みして補正する
+ */
+@Component
+public class NamePrefixIndex implements SmartLifecycle {
+    
+    private static final Logger log = LoggerFactory.getLogger(NamePrefixIndex.class);
+    
+    private static final String LOAD_SQL = "SELECT name, count(*) AS cnt FROM sample_table GROUP BY name";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    
+    /**
+     * 差分の適用・再構築の開始と差し替えを排他するロック（検索はロックを取得しない）
+     */
+    private final Object lock = new Object();
+    
+    private final AtomicBoolean reloadRequested = new AtomicBoolean();
+    private final AtomicBoolean compactionRequested = new AtomicBoolean();
+    
+    /**
+     * 現在の配列と差分（差し替えは両方をまとめて行う）
+     */
+    private volatile Snapshot snapshot = new Snapshot(FrontCodedNames.EMPTY, new ConcurrentSkipListMap<>());
+    
+    /**
+     * 再構築中に発生した変更（再構築中でない場合はnull）
+     */
+    private List<Change> changesDuringRebuild;
+    
+    private volatile ExecutorService executor;
+    
+    @Value("${app.autocomplete.fetch-size:10000}")
+    private int fetchSize;
+    
+    @Value("${app.autocomplete.max-pending-changes:10000}")
+    private int maxPendingChanges;
+    
+    /**
+     * コンストラクタ
+     * 
+     * @param jdbcTemplate JDBCテンプレート
+     * @param transactionManager トランザクションマネージャー
+     */
+    public NamePrefixIndex(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 読み取り専用のトランザクションはリードレプリカへ振り分けられ、反映済みの差分より古い内容を読み込む場合があるため、
+        // 書き込みと同じプライマリから読み込む（フェッチサイズ単位の読み込みにはトランザクションが必要）
+        this.transactionTemplate.setReadOnly(false);
+    }
+    
+    /**
+     * 前方一致する名前を名前順に取得
+     * 
+     * @param prefix 前方一致させる文字列
+     * @param limit 最大件数
+     * @return 名前のリスト
+     */
+    public List<String> suggest(String prefix, int limit) {
+        Snapshot current = snapshot;
+        List<String> result = new ArrayList<>(Math.min(limit, 64));
+        FrontCodedNames.Cursor base = current.names().cursor(prefix);
+        Iterator<Map.Entry<String, Long>> deltas = current.delta().tailMap(prefix, true).entrySet().iterator();
+        Map.Entry<String, Long> delta = deltas.hasNext() ? deltas.next() : null;
+        
+        while (result.size() < limit) {
+            String baseName = base.hasNext() && base.name().startsWith(prefix) ? base.name() : null;
+            String deltaName = delta != null && delta.getKey().startsWith(prefix) ? delta.getKey() : null;
+            if (baseName == null && deltaName == null) {
+                break;
+            }
+            
+            int order = baseName == null ? 1 : deltaName == null ? -1 : baseName.compareTo(deltaName);
+            String name = order <= 0 ? baseName : deltaName;
+            long count = 0;
+            if (order <= 0) {
+                count += base.count();
+                base.advance();
+            }
+            if (order >= 0) {
+                count += delta.getValue();
+                delta = deltas.hasNext() ? deltas.next() : null;
+            }
+            if (count > 0) {
+                result.add(name);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * 登録されている名前の種類数を取得
+     * 
+     * @return 名前の種類数
+     */
+    public int size() {
+        Snapshot current = snapshot;
+        int size = current.names().size();
+        for (Map.Entry<String, Long> delta : current.delta().entrySet()) {
+            long baseCount = current.names().count(delta.getKey());
+            long count = baseCount + delta.getValue();
+            if (baseCount > 0 && count <= 0) {
+                size--;
+            } else if (baseCount <= 0 && count > 0) {
+                size++;
+            }
+        }
+        return size;
+    }
+    
+    /**
+     * 名前を1件追加
+     * 
+     * @param name 名前
+     */
+    void add(String name) {
+        apply(name, 1);
+    }
+    
+    /**
+     * 名前を1件削除（件数が0になった場合は候補から除外）
+     * 
+     * @param name 名前
+     */
+    void remove(String name) {
+        apply(name, -1);
+    }
+    
+    /**
+     * 名前の件数の増減を差分に反映し、再構築中であればバッファにも記録
+     * 差分が上限を超えた場合は、配列へ統合する再構築を要求する
+     * 
+     * @param name 名前
+     * @param amount 増減
+     */
+    private void apply(String name, long amount) {
+        if (name == null) {
+            return;
+        }
+        int pending;
+        synchronized (lock) {
+            merge(snapshot.delta(), name, amount);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(new Change(name, amount));
+            }
+            pending = snapshot.delta().size();
+        }
+        if (pending > maxPendingChanges && compactionRequested.compareAndSet(false, true)) {
+            submit();
+        }
+    }
+    
+    /**
+     * 変更イベントのコミット後にインデックスへ反映
+     * 一括取り込み・全破棄では変更された名前を特定しないため、全件の再読み込みを要求する（リクエストのスレッドでは読み込まない）
+     * 他ノードから受信した変更はトランザクション外で発行されるため、受信時に反映する
+     * 
+     * @param event 変更イベント
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSampleChanged(SampleChangedEvent event) {
+        switch (event.type()) {
+            case CREATED -> add(event.newName());
+            case UPDATED -> {
+                remove(event.oldName());
+                add(event.newName());
+            }
+            case DELETED, ARCHIVED -> remove(event.oldName());
+            case IMPORTED, FLUSHED -> requestReload();
+        }
+    }
+    
+    /**
+     * 起動完了時に全件の読み込みを要求
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        requestReload();
+    }
+    
+    /**
+     * 全件の再読み込みを定期的に要求し、差分反映の取りこぼしを補正
+     */
+    @Scheduled(fixedDelayString = "${app.autocomplete.rebuild-interval:3600000}",
+        initialDelayString = "${app.autocomplete.rebuild-interval:3600000}")
+    public void rebuild() {
+        requestReload();
+    }
+    
+    /**
+     * 全件の再読み込みを要求（実行中・実行待ちの再読み込みがある場合はまとめて1回とする）
+     */
+    void requestReload() {
+        if (reloadRequested.compareAndSet(false, true)) {
+            submit();
+        }
+    }
+    
+    @Override
+    public void start() {
+        executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("name-prefix-index").daemon(true).factory());
+    }
+    
+    @Override
+    public void stop() {
+        ExecutorService current = executor;
+        executor = null;
+        if (current != null) {
+            current.shutdownNow();
+        }
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return executor != null;
+    }
+    
+    /**
+     * 要求された再構築を専用のスレッドで実行
+     */
+    private void submit() {
+        ExecutorService current = executor;
+        if (current == null) {
+            return;
+        }
+        try {
+            current.execute(this::runRequested);
+        } catch (RejectedExecutionException e) {
+            log.debug("停止中のため名前の前方一致インデックスを再構築しません");
+        }
+    }
+    
+    /**
+     * 要求された再構築を実行（全件の再読み込みは差分の統合を兼ねる）
+     */
+    private void runRequested() {
+        try {
+            if (reloadRequested.getAndSet(false)) {
+                compactionRequested.set(false);
+                reload();
+            } else if (compactionRequested.getAndSet(false)) {
+                compact();
+            }
+        } catch (RuntimeException e) {
+            log.error("名前の前方一致インデックスの再構築に失敗しました", e);
+        }
+    }
+    
+    /**
+     * sample_tableから名前ごとの件数を読み込み、配列を差し替える
+     */
+    void reload() {
+        long start = System.nanoTime();
+        beginRebuild();
+        FrontCodedNames loaded;
+        try {
+            FrontCodedNames.Builder builder = new FrontCodedNames.Builder();
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(LOAD_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                return ps;
+            }, (RowCallbackHandler) rs -> builder.add(rs.getString("name"), rs.getLong("cnt"))));
+            loaded = builder.build();
+        } catch (RuntimeException e) {
+            abortRebuild();
+            throw e;
+        }
+        int replayed = completeRebuild(loaded);
+        log.info("名前の前方一致インデックスを読み込みました: 種類数={}, 読み込み中の変更={}件, 所要時間={}ms",
+            loaded.size(), replayed, (System.nanoTime() - start) / 1_000_000);
+    }
+    
+    /**
+     * 現在の配列と差分を統合した配列を構築し、差し替える（データベースは読み込まない）
+     */
+    void compact() {
+        long start = System.nanoTime();
+        Snapshot current;
+        NavigableMap<String, Long> delta;
+        synchronized (lock) {
+            current = snapshot;
+            delta = new TreeMap<>(current.delta());
+            changesDuringRebuild = new ArrayList<>();
+        }
+        
+        FrontCodedNames.Builder builder = new FrontCodedNames.Builder();
+        FrontCodedNames.Cursor base = current.names().cursor("");
+        while (base.hasNext()) {
+            builder.add(base.name(), base.count() + delta.getOrDefault(base.name(), 0L));
+            base.advance();
+        }
+        delta.forEach((name, count) -> {
+            if (current.names().count(name) == 0) {
+                builder.add(name, count);
+            }
+        });
+        FrontCodedNames merged = builder.build();
+        
+        int replayed = completeRebuild(merged);
+        log.info("名前の前方一致インデックスへ差分を統合しました: 種類数={}, 差分={}件, 統合中の変更={}件, 所要時間={}ms",
+            merged.size(), delta.size(), replayed, (System.nanoTime() - start) / 1_000_000);
+    }
+    
+    /**
+     * 再構築の開始（以降の変更をバッファに記録する）
+     */
+    private void beginRebuild() {
+        synchronized (lock) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+    }
+    
+    /**
+     * 再構築の中断（バッファを破棄し、現在の配列と差分を使い続ける）
+     */
+    private void abortRebuild() {
+        synchronized (lock) {
+            changesDuringRebuild = null;
+        }
+    }
+    
+    /**
+     * 再構築中の変更を新しい差分として再適用し、配列と差分を差し替える
+     * 
+     * @param names 新しい配列
+     * @return 再適用した変更の件数
+     */
+    private int completeRebuild(FrontCodedNames names) {
+        synchronized (lock) {
+            ConcurrentSkipListMap<String, Long> delta = new ConcurrentSkipListMap<>();
+            for (Change change : changesDuringRebuild) {
+                merge(delta, change.name(), change.amount());
+            }
+            int replayed = changesDuringRebuild.size();
+            changesDuringRebuild = null;
+            snapshot = new Snapshot(names, delta);
+            return replayed;
+        }
+    }
+    
+    /**
+     * 差分に件数の増減を加算（増減が0になった名前は差分から除く）
+     * 
+     * @param delta 差分
+     * @param name 名前
+     * @param amount 件数の増減
+     */
+    private static void merge(ConcurrentSkipListMap<String, Long> delta, String name, long amount) {
+        delta.merge(name, amount, (current, added) -> current + added == 0 ? null : current + added);
+    }
+    
+    /**
+     * 配列と差分の組
+     * 
+     * @param names 名前ごとの件数の配列
+     * @param delta 配列に対する名前ごとの件数の増減（名前の昇順）
+     */
+    private record Snapshot(FrontCodedNames names, ConcurrentSkipListMap<String, Long> delta) {
+    }
+    
+    /**
+     * 再構築中に発生した変更
+     * 
+     * @param name 名前
+     * @param amount 件数の増減
+     */
+    private record Change(String name, long amount) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.app.service;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * アーカイブのキルスイッチを参照・切り替えるActuatorエンドポイント（/actuator/archive）
+ * 停止すると、実行中のアーカイブも次のバッチの前に中断する
+ */
+@Component
+@Endpoint(id = "archive")
+public class SampleArchiveEndpoint {
+    
+    private final SampleArchiveService sampleArchiveService;
+    
+    /**
+     * コンストラクタ
+     * 
+     * @param sampleArchiveService アーカイブサービス
+     */
+    public SampleArchiveEndpoint(SampleArchiveService sampleArchiveService) {
+        this.sampleArchiveService = sampleArchiveService;
+    }
+    
+    /**
+     * キルスイッチの状態を取得
+     * 
+     * @return キルスイッチの状態
+     */
+    @ReadOperation
+    public ArchiveStatus status() {
+        return new ArchiveStatus(sampleArchiveService.isEnabled());
+    }
+    
+    /**
+     * キルスイッチを切り替え
+     * 
+     * @param enabled 有効にする場合はtrue
+     * @return 切り替え後の状態
+     */
+    @WriteOperation
+    public ArchiveStatus update(boolean enabled) {
+        sampleArchiveService.setEnabled(enabled);
+        return status();
+    }
+    
+    /**
+     * キルスイッチの状態
+     * 
+     * @param enabled 有効な場合はtrue
+     */
+    public record ArchiveStatus(boolean enabled) {
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.app.service;
+
+import com.example.app.dto.SampleRecord;
+import com.example.app.event.SampleChangedEvent;
+import com.example.app.repository.SampleSqlRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * sample_tableのアーカイブサービスクラス
+ * 作成から一定期間を経過した行を、小さなバッチ単位でsample_table_archiveへ移動する
+ * バッチごとに短いトランザクションをコミットして休止を挟むため、長時間のロック保持やオンライン処理の妨げにならない
+ * app.archive.enabledをfalseにすると定期実行されない（本番環境のキルスイッチ）
+ * キルスイッチは実行中も各バッチの前に確認し、Actuatorエンドポイント（/actuator/archive）から再起動せずに切り替えられる
+ */
+@Service
+public class SampleArchiveService {
+    
+    private static final Logger log = LoggerFactory.getLogger(SampleArchiveService.class);
+    
+    private static final LocalDateTime INITIAL_CURSOR = LocalDateTime.of(1, 1, 1, 0, 0);
+    
+    private final SampleSqlRepository sampleSqlRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter archivedRows;
+    private final Timer batchTimer;
+    private final AtomicReference<Double> lastRunRowsPerSecond = new AtomicReference<>(0.0);
+    private final AtomicBoolean enabled;
+    
+    @Value("${app.archive.min-age:365d}")
+    private Duration minAge;
+    
+    @Value("${app.archive.batch-size:1000}")
+    private int batchSize;
+    
+    @Value("${app.archive.pause:200ms}")
+    private Duration pause;
+    
+    @Value("${app.archive.max-batches-per-run:1000}")
+    private int maxBatchesPerRun;
+    
+    /**
+     * コンストラクタ
+     * 
+     * @param sampleSqlRepository サンプルSQLリポジトリ
+     * @param transactionManager トランザクションマネージャー
+     * @param eventPublisher イベント発行
+     * @param meterRegistry メトリクスレジストリ
+     * @param enabled 起動時のキルスイッチの状態（falseの場合は実行しない）
+     */
+    public SampleArchiveService(SampleSqlRepository sampleSqlRepository, PlatformTransactionManager transactionManager,
+                                ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry,
+                                @Value("${app.archive.enabled:false}") boolean enabled) {
+        this.sampleSqlRepository = sampleSqlRepository;
+        this.enabled = new AtomicBoolean(enabled);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.archivedRows = Counter.builder("app.archive.rows")
+            .description("アーカイブテーブルへ移動した行数（rateで毎秒の移動件数となる）")
+            .register(meterRegistry);
+        this.batchTimer = Timer.builder("app.archive.batch")
+            .description("アーカイブ1バッチあたりの処理時間（トランザクション時間）")
+            .register(meterRegistry);
+        Gauge.builder("app.archive.last-run.rows-per-second", lastRunRowsPerSecond, AtomicReference::get)
+            .description("直近のアーカイブ実行における毎秒の移動件数")
+            .register(meterRegistry);
+        Gauge.builder("app.archive.enabled", this.enabled, value -> value.get() ? 1 : 0)
+            .description("アーカイブのキルスイッチの状態（1: 有効、0: 停止）")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * アーカイブを定期的に実行
+     */
+    @Scheduled(fixedDelayString = "${app.archive.interval:600000}",
+        initialDelayString = "${app.archive.interval:600000}")
+    public void scheduledArchive() {
+        if (!enabled.get()) {
+            return;
+        }
+        archive();
+    }
+    
+    /**
+     * キルスイッチの状態を取得
+     * 
+     * @return 有効な場合はtrue
+     */
+    public boolean isEnabled() {
+        return enabled.get();
+    }
+    
+    /**
+     * キルスイッチを切り替え
+     * 実行中のアーカイブは次のバッチの前に停止する
+     * 
+     * @param value 有効にする場合はtrue
+     */
+    public void setEnabled(boolean value) {
+        if (enabled.getAndSet(value) != value) {
+            log.warn("アーカイブのキルスイッチを切り替えました: enabled={}", value);
+        }
+    }
+    
+    /**
+     * 基準日時より前に作成された行をバッチ単位で移動
+     * 作成日時・IDのキーセット順に進め、対象がなくなるか1回あたりの最大バッチ数に達した時点、
+     * またはキルスイッチで停止された時点で終了する
+     * 
+     * @return 移動した行数
+     */
+    public long archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(minAge);
+        log.info("アーカイブを開始: cutoff={}, batchSize={}, pause={}", cutoff, batchSize, pause);
+        
+        long start = System.nanoTime();
+        long total = 0;
+        LocalDateTime afterCreatedAt = INITIAL_CURSOR;
+        long afterId = 0;
+        
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            if (!enabled.get()) {
+                log.warn("キルスイッチによりアーカイブを中断します: 件数={}", total);
+                break;
+            }
+            List<SampleRecord> moved = moveBatch(cutoff, afterCreatedAt, afterId);
+            if (moved.isEmpty()) {
+                break;
+            }
+            total += moved.size();
+            
+            // 次のバッチはこのバッチの最後の行（作成日時・IDの最大値）より後ろから開始
+            SampleRecord last = moved.stream()
+                .max(Comparator.comparing(SampleRecord::createdAt).thenComparing(SampleRecord::id))
+                .orElseThrow();
+            afterCreatedAt = last.createdAt();
+            afterId = last.id();
+            
+            if (moved.size() < batchSize) {
+                break;
+            }
+            if (!sleep()) {
+                break;
+            }
+        }
+        
+        double seconds = Math.max((System.nanoTime() - start) / 1_000_000_000.0, 0.001);
+        lastRunRowsPerSecond.set(total / seconds);
+        log.info("アーカイブが完了しました: 件数={}, 所要時間={}秒, 毎秒={}件",
+            total, String.format("%.1f", seconds), String.format("%.1f", total / seconds));
+        return total;
+    }
+    
+    /**
+     * 1バッチ分を1トランザクションで移動し、コミット後にキャッシュ等へ反映されるよう変更イベントを発行
+     * 移動は削除ではないため、日別統計の削除件数には数えない
+     * 
+     * @param cutoff 基準日時
+     * @param afterCreatedAt カーソル位置の作成日時
+     * @param afterId カーソル位置のID
+     * @return 移動した行のリスト
+     */
+    private List<SampleRecord> moveBatch(LocalDateTime cutoff, LocalDateTime afterCreatedAt, long afterId) {
+        List<SampleRecord> moved = batchTimer.record(() -> transactionTemplate.execute(status -> {
+            sampleSqlRepository.disableDailyStats();
+            List<SampleRecord> rows = sampleSqlRepository.archiveBatch(cutoff, afterCreatedAt, afterId, batchSize,
+                LocalDateTime.now());
+            rows.forEach(row -> eventPublisher.publishEvent(SampleChangedEvent.archived(row.id(), row.name())));
+            return rows;
+        }));
+        archivedRows.increment(moved.size());
+        log.debug("アーカイブのバッチを処理しました: 件数={}", moved.size());
+        return moved;
+    }
+    
+    /**
+     * バッチ間の休止
+     * 
+     * @return 休止を完了した場合はtrue（割り込まれた場合はfalse）
+     */
+    private boolean sleep() {
+        try {
+            Thread.sleep(pause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("アーカイブの休止中に割り込まれたため中断します");
+            return false;
+        }
+    }
+}
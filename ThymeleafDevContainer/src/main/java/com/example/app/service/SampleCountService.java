@@ -0,0 +1,82 @@
+package com.example.app.service;
+
+import com.example.app.config.CacheConfig;
+import com.example.app.dto.SampleCount;
+import com.example.app.repository.SampleSqlRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 件数サービスクラス
+ * PostgreSQLのcount(*)は全行を走査するため、行数が多いテーブルでは一覧画面の表示のたびに数えると負荷が大きい
+ * 閾値までは実際に数えて正確な件数を返し、閾値を超える場合は統計情報・実行計画の推定行数を返す
+ * 推定値は短い有効期限でキャッシュする（app.cache.sample-counts.ttl）
+ * 正確な件数は作成・削除の直後に古い値を正確な件数として表示しないよう、キャッシュせず毎回数える
+ */
+@Service
+public class SampleCountService {
+    
+    private static final Logger log = LoggerFactory.getLogger(SampleCountService.class);
+    
+    private final SampleSqlRepository sampleSqlRepository;
+    
+    @Value("${app.count.exact-threshold:10000}")
+    private long exactThreshold;
+    
+    /**
+     * コンストラクタ
+     * 
+     * @param sampleSqlRepository サンプルSQLリポジトリ
+     */
+    public SampleCountService(SampleSqlRepository sampleSqlRepository) {
+        this.sampleSqlRepository = sampleSqlRepository;
+    }
+    
+    /**
+     * 全件数を取得
+     * 
+     * @return 件数（閾値を超える場合はパーティションごとの統計情報から推定した件数）
+     */
+    @Cacheable(cacheNames = CacheConfig.SAMPLE_COUNTS_CACHE, key = "'all'", unless = "!#result.approximate()")
+    @Transactional(readOnly = true)
+    public SampleCount countAll() {
+        long counted = sampleSqlRepository.countUpTo(exactThreshold);
+        if (counted <= exactThreshold) {
+            return SampleCount.exact(counted);
+        }
+        
+        // 統計情報が古い場合も、数えた件数（閾値+1件）を下回る推定値は返さない
+        long estimated = Math.max(sampleSqlRepository.estimateCount(), counted);
+        log.debug("全件数を推定しました: estimated={}", estimated);
+        return SampleCount.approximate(estimated);
+    }
+    
+    /**
+     * 名前の部分一致・あいまい検索の件数を取得
+     * 
+     * @param keyword 検索キーワード
+     * @return 件数（閾値を超える場合は実行計画から推定した件数）
+     */
+    @Cacheable(cacheNames = CacheConfig.SAMPLE_COUNTS_CACHE, key = "'name:' + #keyword.trim()",
+        unless = "!#result.approximate()")
+    @Transactional(readOnly = true)
+    public SampleCount countByName(String keyword) {
+        String trimmed = keyword.trim();
+        if (trimmed.isEmpty()) {
+            throw new IllegalArgumentException("検索キーワードは必須です");
+        }
+        
+        long counted = sampleSqlRepository.countByNameUpTo(trimmed, exactThreshold);
+        if (counted <= exactThreshold) {
+            return SampleCount.exact(counted);
+        }
+        
+        long estimated = Math.max(sampleSqlRepository.estimateCountByName(trimmed), counted);
+        log.debug("検索結果の件数を推定しました: keyword={}, estimated={}", trimmed, estimated);
+        return SampleCount.approximate(estimated);
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.app.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+/**
+ * sample_tableのエクスポートサービスクラス
+ * JPAの永続化コンテキストを経由せず、前方専用のJDBCカーソルから1行ずつ出力ストリームへ書き出す
+ * 行をエンティティとして保持しないため、テーブルの件数に関わらずヒープ使用量は一定となる
+ */
+@Service
+public class SampleExportService {
+    
+    private static final Logger log = LoggerFactory.getLogger(SampleExportService.class);
+    
+    private static final String EXPORT_SQL = "SELECT id, name, created_at, updated_at FROM sample_table ORDER BY id";
+    
+    private static final String CSV_HEADER = "id,name,created_at,updated_at";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    
+    @Value("${app.export.fetch-size:1000}")
+    private int fetchSize;
+    
+    /**
+     * コンストラクタ
+     * 
+     * @param jdbcTemplate JDBCテンプレート
+     * @param transactionManager トランザクションマネージャー
+     * @param objectMapper JSONマッパー
+     */
+    public SampleExportService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                               ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+    
+    /**
+     * 全件をCSV形式で出力
+     * 
+     * @param out 出力先ストリーム
+     * @throws IOException 出力に失敗した場合
+     */
+    public void exportCsv(OutputStream out) throws IOException {
+        log.info("CSVエクスポートを開始: fetchSize={}", fetchSize);
+        
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        
+        long count = stream(rs -> {
+            try {
+                writer.write(Long.toString(rs.getLong("id")));
+                writer.write(',');
+                writer.write(escapeCsv(rs.getString("name")));
+                writer.write(',');
+                writer.write(formatTimestamp(rs, "created_at"));
+                writer.write(',');
+                writer.write(formatTimestamp(rs, "updated_at"));
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+        
+        log.info("CSVエクスポートが完了しました: 件数={}", count);
+    }
+    
+    /**
+     * 全件をNDJSON（改行区切りJSON）形式で出力
+     * 
+     * @param out 出力先ストリーム
+     * @throws IOException 出力に失敗した場合
+     */
+    public void exportNdjson(OutputStream out) throws IOException {
+        log.info("NDJSONエクスポートを開始: fetchSize={}", fetchSize);
+        
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+        
+        long count = stream(rs -> {
+            try {
+                generator.writeStartObject();
+                generator.writeNumberField("id", rs.getLong("id"));
+                generator.writeStringField("name", rs.getString("name"));
+                generator.writeStringField("createdAt", formatTimestamp(rs, "created_at"));
+                generator.writeStringField("updatedAt", formatTimestamp(rs, "updated_at"));
+                generator.writeEndObject();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        generator.flush();
+        if (count > 0) {
+            writer.write('\n');
+        }
+        writer.flush();
+        
+        log.info("NDJSONエクスポートが完了しました: 件数={}", count);
+    }
+    
+    /**
+     * 読み取り専用トランザクション内で前方専用カーソルを開き、1行ずつハンドラーに渡す
+     * PostgreSQLではオートコミット無効時のみフェッチサイズ単位のカーソル取得となるため、トランザクションが必須
+     * 
+     * @param handler 行ハンドラー
+     * @return 処理件数
+     * @throws IOException 出力に失敗した場合
+     */
+    private long stream(RowCallbackHandler handler) throws IOException {
+        long[] count = new long[1];
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(EXPORT_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                return ps;
+            }, (RowCallbackHandler) rs -> {
+                handler.processRow(rs);
+                count[0]++;
+            }));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return count[0];
+    }
+    
+    /**
+     * タイムスタンプ列をISO-8601形式の文字列に変換
+     * 
+     * @param rs 結果セット
+     * @param column 列名
+     * @return 文字列表現（NULLの場合は空文字）
+     * @throws SQLException 列の取得に失敗した場合
+     */
+    private static String formatTimestamp(ResultSet rs, String column) throws SQLException {
+        LocalDateTime value = rs.getObject(column, LocalDateTime.class);
+        return value != null ? value.toString() : "";
+    }
+    
+    /**
+     * CSVの値をエスケープ
+     * カンマ・ダブルクォート・改行を含む場合はダブルクォートで囲む
+     * 
+     * @param value 値
+     * @return エスケープ済みの値
+     */
+    private static String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
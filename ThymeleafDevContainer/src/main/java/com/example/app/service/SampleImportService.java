@@ -0,0 +1,251 @@
+package com.example.app.service;
+
+import com.example.app.dto.ImportResult;
+import com.example.app.event.SampleChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * sample_tableへの一括取り込みサービスクラス
+ * CSVをストリームで1行ずつ読み込み、チャンク単位で検証してPostgreSQLのCOPYへ流し込む
+ * ファイル全体をメモリに保持することはなく、使用メモリはチャンクサイズに比例する
+ * 1行を1レコードとして読み込むため、ダブルクォート内に改行を含む値（複数行にわたる値）には対応しない
+ * （値の開始行はクォートが閉じていない検証エラーとして除外し、続きの行は独立した行として扱う）
+ * 進捗は読み込んだ行ごとにメトリクス（app.import.rows、outcome: accepted/rejected）へ加算し、チャンクごとにログ出力する
+ */
+@Service
+public class SampleImportService {
+    
+    private static final Logger log = LoggerFactory.getLogger(SampleImportService.class);
+    
+    private static final String COPY_SQL =
+        "COPY sample_table (name, created_at, updated_at) FROM STDIN WITH (FORMAT csv)";
+    
+    private static final String HEADER = "name";
+    
+    private static final int NAME_MAX_LENGTH = 255;
+    
+    private static final int MAX_REPORTED_ERRORS = 100;
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter acceptedRows;
+    private final Counter rejectedRows;
+    
+    @Value("${app.import.chunk-size:10000}")
+    private int chunkSize;
+    
+    /**
+     * コンストラクタ
+     * 
+     * @param jdbcTemplate JDBCテンプレート
+     * @param eventPublisher イベント発行
+     * @param meterRegistry メトリクスレジストリ
+     */
+    public SampleImportService(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher,
+                               MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.acceptedRows = Counter.builder("app.import.rows")
+            .description("一括取り込みで読み込んだ行数（COPYのロールバック時も減算しない）")
+            .tag("outcome", "accepted")
+            .register(meterRegistry);
+        this.rejectedRows = Counter.builder("app.import.rows")
+            .description("一括取り込みで読み込んだ行数（COPYのロールバック時も減算しない）")
+            .tag("outcome", "rejected")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * CSVを取り込む
+     * 1列目を名前として扱い、先頭行が「name」の場合はヘッダー行として読み飛ばす
+     * 検証エラーの行は除外して取り込みを継続し、COPYが失敗した場合はトランザクション全体をロールバックする
+     * 
+     * @param in CSVの入力ストリーム（UTF-8）
+     * @return 取り込み結果
+     */
+    @Transactional
+    public ImportResult importCsv(InputStream in) {
+        log.info("CSV取り込みを開始: chunkSize={}", chunkSize);
+        
+        return jdbcTemplate.execute((ConnectionCallback<ImportResult>) con -> {
+            CopyIn copyIn = con.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+            try {
+                ImportResult result = copyLines(in, copyIn);
+                long copied = copyIn.endCopy();
+                if (copied > 0) {
+                    eventPublisher.publishEvent(SampleChangedEvent.imported());
+                }
+                log.info("CSV取り込みが完了しました: 処理={}, 取り込み={}, 除外={}",
+                    result.processed(), copied, result.rejected());
+                return new ImportResult(result.processed(), copied, result.rejected(), result.errors());
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        });
+    }
+    
+    /**
+     * 入力を1行ずつ読み込み、チャンク単位で検証済みの行をCOPYへ送信
+     * 
+     * @param in 入力ストリーム
+     * @param copyIn COPY操作
+     * @return 取り込み結果（取り込み件数は送信件数）
+     * @throws SQLException COPYへの送信に失敗した場合
+     */
+    private ImportResult copyLines(InputStream in, CopyIn copyIn) throws SQLException {
+        String now = LocalDateTime.now().toString();
+        StringBuilder chunk = new StringBuilder();
+        List<String> errors = new ArrayList<>();
+        long lineNumber = 0;
+        long processed = 0;
+        long accepted = 0;
+        long rejected = 0;
+        int chunkLines = 0;
+        
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                // UTF-8のBOMを除去
+                if (lineNumber == 1 && !line.isEmpty() && line.charAt(0) == '\uFEFF') {
+                    line = line.substring(1);
+                }
+                if (line.isBlank() || (lineNumber == 1 && HEADER.equalsIgnoreCase(line.trim()))) {
+                    continue;
+                }
+                processed++;
+                
+                // 検証
+                String name = parseFirstField(line);
+                String error = validate(name);
+                if (error != null) {
+                    rejected++;
+                    rejectedRows.increment();
+                    if (errors.size() < MAX_REPORTED_ERRORS) {
+                        errors.add(lineNumber + "行目: " + error);
+                    }
+                    continue;
+                }
+                
+                // COPY用のCSV行を組み立て
+                chunk.append(quote(name.trim())).append(',').append(now).append(',').append(now).append('\n');
+                accepted++;
+                acceptedRows.increment();
+                chunkLines++;
+                
+                if (chunkLines >= chunkSize) {
+                    writeChunk(copyIn, chunk);
+                    chunkLines = 0;
+                    log.info("CSV取り込み中: 処理={}, 送信={}, 除外={}", processed, accepted, rejected);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("CSVの読み込みに失敗しました", e);
+        }
+        writeChunk(copyIn, chunk);
+        
+        return new ImportResult(processed, accepted, rejected, errors);
+    }
+    
+    /**
+     * チャンクをCOPYへ送信してバッファをクリア
+     * 
+     * @param copyIn COPY操作
+     * @param chunk 送信するCSV
+     * @throws SQLException 送信に失敗した場合
+     */
+    private static void writeChunk(CopyIn copyIn, StringBuilder chunk) throws SQLException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        byte[] bytes = chunk.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        chunk.setLength(0);
+    }
+    
+    /**
+     * 名前を検証
+     * 
+     * @param name 名前
+     * @return エラー内容（正常な場合はnull）
+     */
+    private static String validate(String name) {
+        if (name == null) {
+            return "ダブルクォートが閉じられていません（改行を含む値には対応していません）";
+        }
+        if (name.trim().isEmpty()) {
+            return "名前は必須です";
+        }
+        String trimmed = name.trim();
+        if (trimmed.codePointCount(0, trimmed.length()) > NAME_MAX_LENGTH) {
+            return "名前は" + NAME_MAX_LENGTH + "文字以内で指定してください";
+        }
+        if (trimmed.indexOf('\0') >= 0) {
+            return "名前に使用できない文字が含まれています";
+        }
+        return null;
+    }
+    
+    /**
+     * CSV行の1列目を取り出す
+     * ダブルクォートで囲まれた値（""によるエスケープを含む）に対応する
+     * 
+     * @param line CSV行
+     * @return 1列目の値（クォートが閉じていない場合はnull）
+     */
+    private static String parseFirstField(String line) {
+        if (line.isEmpty() || line.charAt(0) != '"') {
+            int comma = line.indexOf(',');
+            return comma < 0 ? line : line.substring(0, comma);
+        }
+        StringBuilder value = new StringBuilder();
+        for (int i = 1; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else {
+                    return value.toString();
+                }
+            } else {
+                value.append(c);
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * COPY（CSV形式）用に値をダブルクォートで囲む
+     * 
+     * @param value 値
+     * @return クォート済みの値
+     */
+    private static String quote(String value) {
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.app.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * sample_tableのパーティション保守サービスクラス
+ * created_atによる月別パーティションを当月から指定月数先まで先行して作成する
+ * パーティションが存在しない月の行はデフォルトパーティションに格納され、
+ * その後に同じ範囲のパーティションを作成できなくなるため、余裕を持って作成しておく
+ */
+@Service
+public class SamplePartitionMaintenanceService {
+    
+    private static final Logger log = LoggerFactory.getLogger(SamplePartitionMaintenanceService.class);
+    
+    private static final String PARENT_TABLE = "sample_table";
+    
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    
+    private static final String IS_PARTITIONED_SQL =
+        "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass(?))";
+    
+    private static final String EXISTS_SQL = "SELECT to_regclass(?) IS NOT NULL";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Value("${app.partition.months-ahead:3}")
+    private int monthsAhead;
+    
+    /**
+     * コンストラクタ
+     * 
+     * @param jdbcTemplate JDBCテンプレート
+     */
+    public SamplePartitionMaintenanceService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    /**
+     * 起動完了時に不足しているパーティションを作成
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        createPartitions();
+    }
+    
+    /**
+     * 不足しているパーティションを定期的に作成
+     */
+    @Scheduled(cron = "${app.partition.maintenance-cron:0 0 3 * * *}")
+    public void scheduledMaintenance() {
+        createPartitions();
+    }
+    
+    /**
+     * 当月から指定月数先までの月別パーティションのうち、存在しないものを作成
+     * sample_tableがパーティションテーブルでない場合は何もしない
+     * 
+     * @return 作成したパーティション数
+     */
+    public int createPartitions() {
+        Boolean partitioned = jdbcTemplate.queryForObject(IS_PARTITIONED_SQL, Boolean.class, PARENT_TABLE);
+        if (!Boolean.TRUE.equals(partitioned)) {
+            log.debug("sample_tableはパーティションテーブルではないため、パーティション保守を行いません");
+            return 0;
+        }
+        
+        LocalDate monthStart = LocalDate.now().withDayOfMonth(1);
+        int created = 0;
+        for (int i = 0; i <= monthsAhead; i++) {
+            LocalDate from = monthStart.plusMonths(i);
+            if (createPartition(from, from.plusMonths(1))) {
+                created++;
+            }
+        }
+        
+        if (created > 0) {
+            log.info("パーティションを作成しました: 作成数={}", created);
+        }
+        return created;
+    }
+    
+    /**
+     * 月別パーティションを作成
+     * デフォルトパーティションに同じ範囲の行が既に格納されている場合は作成に失敗するため、エラーを記録して継続する
+     * 
+     * @param from 範囲の開始日（含む）
+     * @param to 範囲の終了日（含まない）
+     * @return 作成した場合はtrue
+     */
+    private boolean createPartition(LocalDate from, LocalDate to) {
+        String partition = PARENT_TABLE + "_p" + from.format(SUFFIX_FORMAT);
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_SQL, Boolean.class, partition))) {
+            return false;
+        }
+        
+        // DDLではバインド変数を使用できないため、日付から組み立てた固定書式の値のみを埋め込む
+        String ddl = "CREATE TABLE IF NOT EXISTS " + partition + " PARTITION OF " + PARENT_TABLE
+            + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')";
+        try {
+            jdbcTemplate.execute(ddl);
+            log.info("パーティションを作成しました: name={}, from={}, to={}", partition, from, to);
+            return true;
+        } catch (DataAccessException e) {
+            log.error("パーティションの作成に失敗しました: name={}, from={}, to={}", partition, from, to, e);
+            return false;
+        }
+    }
+}
@@ -1,15 +1,43 @@
 package com.example.app.service;
 
+import com.example.app.config.CacheConfig;
+import com.example.app.config.PrimaryRead;
+import com.example.app.dto.KeysetPage;
+import com.example.app.dto.SampleRecord;
+import com.example.app.dto.SampleUpdateResult;
 import com.example.app.entity.SampleEntity;
+import com.example.app.event.SampleChangedEvent;
 import com.example.app.repository.SampleRepository;
+import com.example.app.repository.SampleSqlRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * サンプルサービスクラス
@@ -21,14 +49,68 @@ public class SampleService {
     private static final Logger log = LoggerFactory.getLogger(SampleService.class);
     
     private final SampleRepository sampleRepository;
+    private final SampleSqlRepository sampleSqlRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SampleWriteBuffer writeBuffer;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter updateSuccesses;
+    private final Counter updateConflicts;
+    private final Counter updateNotFound;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+    
+    @Value("${app.bulk-create.max-size:10000}")
+    private int bulkCreateMaxSize;
+    
+    @Value("${app.search.min-length:3}")
+    private int searchMinLength;
+    
+    @Value("${app.search.max-results:50}")
+    private int searchMaxResults;
+    
+    @Value("${app.write-buffer.await-timeout:10s}")
+    private Duration writeBufferAwaitTimeout;
     
     /**
      * コンストラクタ
      * 
      * @param sampleRepository サンプルリポジトリ
+     * @param sampleSqlRepository サンプルSQLリポジトリ
+     * @param eventPublisher イベント発行
+     * @param writeBuffer 作成の書き込みバッファ
+     * @param transactionManager トランザクションマネージャー
+     * @param meterRegistry メトリクスレジストリ
      */
-    public SampleService(SampleRepository sampleRepository) {
+    public SampleService(SampleRepository sampleRepository, SampleSqlRepository sampleSqlRepository,
+                         ApplicationEventPublisher eventPublisher, SampleWriteBuffer writeBuffer,
+                         PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
         this.sampleRepository = sampleRepository;
+        this.sampleSqlRepository = sampleSqlRepository;
+        this.eventPublisher = eventPublisher;
+        this.writeBuffer = writeBuffer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.updateSuccesses = updateCounter(meterRegistry, "success");
+        this.updateConflicts = updateCounter(meterRegistry, "conflict");
+        this.updateNotFound = updateCounter(meterRegistry, "not_found");
+    }
+    
+    /**
+     * 更新結果ごとの更新試行回数カウンターを登録
+     * 競合率は outcome=conflict の件数を全体の件数で割って求める
+     * 
+     * @param meterRegistry メトリクスレジストリ
+     * @param outcome 更新結果
+     * @return カウンター
+     */
+    private static Counter updateCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("app.sample.updates")
+            .description("エンティティの更新試行回数")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
     }
     
     /**
@@ -42,12 +124,86 @@ public class SampleService {
         return sampleRepository.findAll();
     }
     
+    /**
+     * 一覧表示用のレコードをキーセット方式でページ単位に取得
+     * OFFSETを使わずIDを境界として取得するため、何ページ目であっても応答時間は一定となる
+     * 結果は読み取り専用のレコードとして射影され、永続化コンテキストに管理されない
+     * beforeIdが指定された場合は前ページ、それ以外はafterIdの次ページ（未指定時は先頭ページ）を取得
+     * 
+     * @param afterId 次ページ取得時の境界ID（null可）
+     * @param beforeId 前ページ取得時の境界ID（null可）
+     * @param size 1ページあたりの件数
+     * @return キーセットページ
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<SampleRecord> findPage(Long afterId, Long beforeId, int size) {
+        log.debug("レコードをページ取得: afterId={}, beforeId={}, size={}", afterId, beforeId, size);
+        
+        if (size < 1) {
+            throw new IllegalArgumentException("ページサイズは1以上で指定してください");
+        }
+        
+        // 1件多く取得し、境界の向こう側にまだデータがあるかを判定する
+        Limit limit = Limit.of(size + 1);
+        
+        if (beforeId != null) {
+            List<SampleRecord> rows = new ArrayList<>(sampleRepository.findPreviousPage(beforeId, limit));
+            boolean hasPrevious = rows.size() > size;
+            if (hasPrevious) {
+                rows = rows.subList(0, size);
+            }
+            Collections.reverse(rows);
+            
+            // 次ページは表示した最後の行の後ろから取得する（境界IDの行を読み飛ばさない）
+            Long previousCursor = hasPrevious ? rows.get(0).id() : null;
+            Long nextCursor = rows.isEmpty() ? null : rows.get(rows.size() - 1).id();
+            return new KeysetPage<>(rows, previousCursor, nextCursor);
+        }
+        
+        List<SampleRecord> rows = sampleRepository.findNextPage(afterId != null ? afterId : 0L, limit);
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
+        }
+        
+        Long previousCursor = afterId != null && !rows.isEmpty() ? rows.get(0).id() : null;
+        Long nextCursor = hasNext ? rows.get(rows.size() - 1).id() : null;
+        return new KeysetPage<>(rows, previousCursor, nextCursor);
+    }
+    
+    /**
+     * 作成日時が指定範囲内のレコードを取得
+     * 範囲を指定することで、該当する月のパーティションのみが検索される
+     * 
+     * @param from 範囲の開始日時（含む）
+     * @param to 範囲の終了日時（含まない）
+     * @param limit 最大件数
+     * @return 作成日時順のレコードのリスト
+     */
+    @Transactional(readOnly = true)
+    public List<SampleRecord> findCreatedBetween(LocalDateTime from, LocalDateTime to, int limit) {
+        log.debug("作成日時の範囲でレコードを取得: from={}, to={}, limit={}", from, to, limit);
+        
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("作成日時の範囲は開始日時 < 終了日時で指定してください");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("件数は1以上で指定してください");
+        }
+        
+        return sampleRepository.findCreatedBetween(from, to, Limit.of(limit));
+    }
+    
     /**
      * IDでエンティティを取得
+     * 読み込んだエンティティは第2レベルキャッシュに格納され、編集フォームのバージョンにも使用されるため、
+     * 読み取り専用のままプライマリから読み込む
+     * （変更のコミット後にキャッシュを除去しても、遅延したリードレプリカから変更前の行を読み込むと再びキャッシュされてしまう）
      * 
      * @param id ID
      * @return エンティティ（存在しない場合はOptional.empty()）
      */
+    @PrimaryRead
     @Transactional(readOnly = true)
     public Optional<SampleEntity> findById(Long id) {
         log.debug("IDでエンティティを取得: id={}", id);
@@ -55,24 +211,71 @@ public class SampleService {
     }
     
     /**
-     * 名前でエンティティを検索
+     * IDで表示用のレコードを取得
+     * 詳細ページは参照頻度が高いため、第2レベルキャッシュのエンティティから生成し、データベースへ問い合わせない
+     * キャッシュに存在しない場合はfindByIdと同様に読み取り専用のままプライマリから読み込み、キャッシュへ格納する
+     * 読み取り専用トランザクションのためエンティティのスナップショットは保持されず、ダーティチェックも発生しない
+     * 
+     * @param id ID
+     * @return レコード（存在しない場合はOptional.empty()）
+     */
+    @PrimaryRead
+    @Transactional(readOnly = true)
+    public Optional<SampleRecord> findRecordById(Long id) {
+        log.debug("IDでレコードを取得: id={}", id);
+        return sampleRepository.findById(id)
+            .map(entity -> new SampleRecord(entity.getId(), entity.getName(), entity.getCreatedAt(),
+                entity.getUpdatedAt()));
+    }
+    
+    /**
+     * 名前でレコードを検索
+     * 結果は名前をキーとしてキャッシュされ、作成・更新・削除のコミット後に該当する名前のキーのみ無効化される
+     * 無効化の直後に遅延したリードレプリカから変更前の結果を読み込んで再びキャッシュしないよう、
+     * 読み取り専用のままプライマリから読み込む（キャッシュに存在しない場合のみ読み込むため、プライマリの負荷は小さい）
+     * キャッシュ間で共有されるため、変更不可能なリストを返す
      * 
      * @param name 名前
-     * @return エンティティのリスト
+     * @return レコードのリスト（変更不可）
+     */
+    @Cacheable(cacheNames = CacheConfig.SAMPLES_BY_NAME_CACHE, key = "#name", condition = "#name != null")
+    @PrimaryRead
+    @Transactional(readOnly = true)
+    public List<SampleRecord> findByName(String name) {
+        log.debug("名前でレコードを検索: name={}", name);
+        return List.copyOf(sampleRepository.findByName(name));
+    }
+    
+    /**
+     * 名前の部分一致・あいまい検索
+     * トライグラムを抽出できない短いキーワードはインデックスを使用できず全件走査となるため、検索しない
+     * 
+     * @param keyword 検索キーワード
+     * @param limit 最大件数（上限を超える場合は上限値）
+     * @return 類似度の高い順のレコードのリスト
+     * @throws IllegalArgumentException キーワードが短すぎる場合
      */
     @Transactional(readOnly = true)
-    public List<SampleEntity> findByName(String name) {
-        log.debug("名前でエンティティを検索: name={}", name);
-        return sampleRepository.findByName(name);
+    public List<SampleRecord> searchByName(String keyword, int limit) {
+        log.debug("名前で検索: keyword={}, limit={}", keyword, limit);
+        
+        String trimmed = keyword == null ? "" : keyword.trim();
+        if (trimmed.codePointCount(0, trimmed.length()) < searchMinLength) {
+            throw new IllegalArgumentException("検索キーワードは" + searchMinLength + "文字以上で入力してください");
+        }
+        
+        return sampleSqlRepository.searchByName(trimmed, Math.max(1, Math.min(limit, searchMaxResults)));
     }
     
     /**
      * 新しいエンティティを作成
+     * 書き込みバッファが有効な場合は、同時に発生した他の作成要求とまとめて1回のコミットで書き込まれるのを待つ
+     * 待機中にデータベース接続を保持しないよう、トランザクションは書き込み時にのみ開始する
      * 
      * @param name 名前
      * @return 作成されたエンティティ
+     * @throws SampleWriteBufferFullException 書き込みバッファが満杯の場合
      */
-    @Transactional
     public SampleEntity create(String name) {
         log.info("新しいエンティティを作成: name={}", name);
         
@@ -81,52 +284,168 @@ public class SampleService {
             throw new IllegalArgumentException("名前は必須です");
         }
         
-        // エンティティの作成
-        SampleEntity entity = new SampleEntity();
-        entity.setName(name.trim());
-        entity.setCreatedAt(LocalDateTime.now());
-        entity.setUpdatedAt(LocalDateTime.now());
+        if (writeBuffer.isEnabled()) {
+            SampleRecord created = awaitCreated(writeBuffer.submit(name.trim()));
+            log.info("エンティティを作成しました: id={}", created.id());
+            SampleEntity entity = new SampleEntity(created.id(), created.name(), created.createdAt(), created.updatedAt());
+            entity.setVersion(0L);
+            return entity;
+        }
         
-        // データベースに保存
-        SampleEntity savedEntity = sampleRepository.save(entity);
+        SampleEntity savedEntity = transactionTemplate.execute(status -> {
+            // エンティティの作成
+            SampleEntity entity = new SampleEntity();
+            entity.setName(name.trim());
+            entity.setCreatedAt(LocalDateTime.now());
+            entity.setUpdatedAt(LocalDateTime.now());
+            
+            // データベースに保存
+            SampleEntity saved = sampleRepository.save(entity);
+            eventPublisher.publishEvent(SampleChangedEvent.created(saved.getId(), saved.getName()));
+            return saved;
+        });
         
         log.info("エンティティを作成しました: id={}", savedEntity.getId());
         return savedEntity;
     }
     
+    /**
+     * 書き込みバッファによる作成の完了を待機
+     * 書き込みに失敗した場合は、書き込み時の例外をそのまま送出する
+     * 待機時間内に完了しない場合はタイムアウトとする（書き込みスレッド側で後から作成される可能性がある）
+     * 
+     * @param future 作成結果
+     * @return 作成されたレコード
+     */
+    private SampleRecord awaitCreated(CompletableFuture<SampleRecord> future) {
+        try {
+            return future.get(writeBufferAwaitTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("エンティティの作成に失敗しました", e.getCause());
+        } catch (TimeoutException e) {
+            throw new QueryTimeoutException("エンティティの作成の完了を待機中にタイムアウトしました: timeout="
+                + writeBufferAwaitTimeout, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("エンティティの作成の完了を待機中に割り込まれました", e);
+        }
+    }
+    
+    /**
+     * 複数のエンティティを1トランザクションで一括作成
+     * IDはシーケンスからまとめて払い出されるため、INSERTはJDBCバッチとして送信される
+     * バッチサイズごとにフラッシュ・クリアし、永続化コンテキストの肥大化を防ぐ
+     * 
+     * @param names 名前のリスト
+     * @return 作成されたエンティティのIDのリスト（入力順）
+     */
+    @Transactional
+    public List<Long> createAll(List<String> names) {
+        log.info("エンティティを一括作成: 件数={}", names == null ? 0 : names.size());
+        
+        // ビジネスロジック: 件数と名前の検証（1件でも不正な場合は全件作成しない）
+        if (names == null || names.isEmpty()) {
+            throw new IllegalArgumentException("名前を1件以上指定してください");
+        }
+        if (names.size() > bulkCreateMaxSize) {
+            throw new IllegalArgumentException("一括作成できる件数は" + bulkCreateMaxSize + "件までです");
+        }
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i);
+            if (name == null || name.trim().isEmpty()) {
+                throw new IllegalArgumentException("名前は必須です: " + (i + 1) + "件目");
+            }
+        }
+        
+        // 一括作成した行で第2レベルキャッシュを押し流さないよう、このセッションではキャッシュへ格納しない
+        entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+        
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = new ArrayList<>(names.size());
+        List<SampleEntity> chunk = new ArrayList<>(batchSize);
+        for (String name : names) {
+            chunk.add(new SampleEntity(null, name.trim(), now, now));
+            if (chunk.size() == batchSize) {
+                ids.addAll(persistChunk(chunk));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            ids.addAll(persistChunk(chunk));
+        }
+        
+        log.info("エンティティを一括作成しました: 件数={}", ids.size());
+        return ids;
+    }
+    
+    /**
+     * チャンク単位でエンティティを保存し、永続化コンテキストから切り離す
+     * 
+     * @param chunk 保存するエンティティ
+     * @return 採番されたIDのリスト
+     */
+    private List<Long> persistChunk(List<SampleEntity> chunk) {
+        List<Long> ids = new ArrayList<>(chunk.size());
+        for (SampleEntity entity : sampleRepository.saveAll(chunk)) {
+            ids.add(entity.getId());
+            eventPublisher.publishEvent(SampleChangedEvent.created(entity.getId(), entity.getName()));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return ids;
+    }
+    
     /**
      * エンティティを更新
+     * 編集開始時のバージョンを条件とするUPDATE文1回で更新し、行ロックを保持したまま待つことはない
+     * 他のトランザクションが先に更新していた場合は上書きせず、競合として例外を送出する
      * 
      * @param id ID
      * @param name 新しい名前
-     * @return 更新されたエンティティ
+     * @param version 編集開始時のバージョン
+     * @return 更新後のレコード
+     * @throws OptimisticLockingFailureException 他のトランザクションが先に更新していた場合
      */
     @Transactional
-    public SampleEntity update(Long id, String name) {
-        log.info("エンティティを更新: id={}, name={}", id, name);
+    public SampleRecord update(Long id, String name, Long version) {
+        log.info("エンティティを更新: id={}, name={}, version={}", id, name, version);
         
-        // ビジネスロジック: 名前の検証
+        // ビジネスロジック: 名前とバージョンの検証
         if (name == null || name.trim().isEmpty()) {
             throw new IllegalArgumentException("名前は必須です");
         }
+        if (version == null) {
+            throw new IllegalArgumentException("バージョンは必須です");
+        }
         
-        // 既存エンティティの取得
-        SampleEntity entity = sampleRepository.findById(id)
-            .orElseThrow(() -> new RuntimeException("エンティティが見つかりません: id=" + id));
-        
-        // エンティティの更新
-        entity.setName(name.trim());
-        entity.setUpdatedAt(LocalDateTime.now());
+        // バージョンが一致する場合のみ更新（更新件数が0件の場合は不存在または競合）
+        Optional<SampleUpdateResult> result =
+            sampleSqlRepository.update(id, name.trim(), version, LocalDateTime.now());
+        if (result.isEmpty()) {
+            if (sampleSqlRepository.findById(id).isEmpty()) {
+                updateNotFound.increment();
+                throw new RuntimeException("エンティティが見つかりません: id=" + id);
+            }
+            updateConflicts.increment();
+            log.warn("エンティティの更新が競合しました: id={}, version={}", id, version);
+            throw new OptimisticLockingFailureException(
+                "他のユーザーによって更新されています。最新の内容を確認してから再度更新してください: id=" + id);
+        }
+        updateSuccesses.increment();
         
-        // データベースに保存
-        SampleEntity savedEntity = sampleRepository.save(entity);
+        SampleRecord updated = result.get().record();
+        eventPublisher.publishEvent(SampleChangedEvent.updated(id, result.get().oldName(), updated.name()));
         
-        log.info("エンティティを更新しました: id={}", savedEntity.getId());
-        return savedEntity;
+        log.info("エンティティを更新しました: id={}", updated.id());
+        return updated;
     }
     
     /**
      * エンティティを削除
+     * 事前の読み込みを行わず、DELETE文1回で削除する
      * 
      * @param id ID
      */
@@ -134,12 +453,10 @@ public class SampleService {
     public void delete(Long id) {
         log.info("エンティティを削除: id={}", id);
         
-        // 既存エンティティの取得
-        SampleEntity entity = sampleRepository.findById(id)
+        // データベースから削除（削除件数が0件の場合は存在しない）
+        String name = sampleSqlRepository.deleteById(id)
             .orElseThrow(() -> new RuntimeException("エンティティが見つかりません: id=" + id));
-        
-        // データベースから削除
-        sampleRepository.delete(entity);
+        eventPublisher.publishEvent(SampleChangedEvent.deleted(id, name));
         
         log.info("エンティティを削除しました: id={}", id);
     }
@@ -0,0 +1,52 @@
+package com.example.app.service;
+
+import com.example.app.dto.DailySampleStats;
+import com.example.app.repository.SampleStatsRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 統計サービスクラス（ダッシュボード用）
+ * 日別の作成・更新・削除件数は、sample_tableへの変更と同じトランザクションでトリガーが集計表に加算する
+ * SampleService以外の経路（一括作成、COPYによる取り込み、書き込みバッファ）の変更も漏れなく集計される
+ */
+@Service
+public class SampleStatsService {
+    
+    private final SampleStatsRepository sampleStatsRepository;
+    
+    @Value("${app.stats.max-days:366}")
+    private long maxDays;
+    
+    /**
+     * コンストラクタ
+     * 
+     * @param sampleStatsRepository 日別統計リポジトリ
+     */
+    public SampleStatsService(SampleStatsRepository sampleStatsRepository) {
+        this.sampleStatsRepository = sampleStatsRepository;
+    }
+    
+    /**
+     * 期間内の日別件数を取得
+     * 
+     * @param from 開始日（含む）
+     * @param to 終了日（含む）
+     * @return 日付順の日別件数（変更のなかった日は0件）
+     */
+    @Transactional(readOnly = true)
+    public List<DailySampleStats> findDaily(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("開始日は終了日以前の日付を指定してください");
+        }
+        if (ChronoUnit.DAYS.between(from, to) + 1 > maxDays) {
+            throw new IllegalArgumentException("期間は" + maxDays + "日以内で指定してください");
+        }
+        return sampleStatsRepository.findDaily(from, to);
+    }
+}
@@ -0,0 +1,281 @@
+package com.example.app.service;
+
+import com.example.app.dto.SampleRecord;
+import com.example.app.event.SampleChangedEvent;
+import com.example.app.repository.SampleSqlRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * エンティティ作成の書き込みバッファ（グループコミット）
+ * 同時に発生した作成要求をキューに溜め、一定時間または一定件数ごとに複数行のINSERT1文と1回のコミットでまとめて書き込む
+ * コミット（WALのfsync）の回数を減らし、短時間に作成要求が集中した場合のスループットを向上させる
+ * キューは有界で、満杯の状態が続く場合は作成要求を拒否する（データベースの処理が追いつかない場合のバックプレッシャー）
+ * app.write-buffer.enabled=trueの場合のみ有効となる
+ */
+@Component
+public class SampleWriteBuffer implements SmartLifecycle {
+    
+    private static final Logger log = LoggerFactory.getLogger(SampleWriteBuffer.class);
+    
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+    
+    private final SampleSqlRepository sampleSqlRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejected;
+    private final DistributionSummary batchSizes;
+    private final Timer flushTimer;
+    
+    private volatile BlockingQueue<PendingCreate> queue;
+    private volatile boolean running;
+    private Thread flusher;
+    
+    @Value("${app.write-buffer.enabled:false}")
+    private boolean enabled;
+    
+    @Value("${app.write-buffer.max-batch-size:100}")
+    private int maxBatchSize;
+    
+    @Value("${app.write-buffer.max-delay:5ms}")
+    private Duration maxDelay;
+    
+    @Value("${app.write-buffer.queue-capacity:1000}")
+    private int queueCapacity;
+    
+    @Value("${app.write-buffer.offer-timeout:100ms}")
+    private Duration offerTimeout;
+    
+    /**
+     * コンストラクタ
+     * 
+     * @param sampleSqlRepository サンプルSQLリポジトリ
+     * @param transactionManager トランザクションマネージャー
+     * @param eventPublisher イベント発行
+     * @param meterRegistry メトリクスレジストリ
+     */
+    public SampleWriteBuffer(SampleSqlRepository sampleSqlRepository, PlatformTransactionManager transactionManager,
+                             ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+        this.sampleSqlRepository = sampleSqlRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.rejected = Counter.builder("app.write-buffer.rejected")
+            .description("キューが満杯のため拒否した作成要求の数")
+            .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("app.write-buffer.batch-size")
+            .description("1回のコミットで書き込んだ行数")
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder("app.write-buffer.flush")
+            .description("1回の書き込み（INSERTとコミット）の処理時間")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * 書き込みバッファが有効か
+     * 
+     * @return 有効な場合はtrue
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * 作成要求をキューに追加
+     * キューが満杯の場合は空きを一定時間待ち、それでも追加できなければ拒否する
+     * 
+     * @param name 名前（検証済み）
+     * @return コミット後に作成したレコードで完了するFuture
+     * @throws SampleWriteBufferFullException キューが満杯の場合
+     */
+    public CompletableFuture<SampleRecord> submit(String name) {
+        BlockingQueue<PendingCreate> current = queue;
+        if (!running || current == null) {
+            throw new IllegalStateException("書き込みバッファが停止しています");
+        }
+        
+        PendingCreate pending = new PendingCreate(name, new CompletableFuture<>());
+        try {
+            if (!current.offer(pending, offerTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                rejected.increment();
+                throw new SampleWriteBufferFullException("作成要求が混み合っています。しばらく時間をおいてから再度お試しください。");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SampleWriteBufferFullException("作成要求の受け付け中に割り込まれました");
+        }
+        
+        // 追加の直前に停止した場合、書き込みスレッドが既に終了していると完了されないため取り下げる
+        // 取り下げられなかった要求は書き込みスレッドが取り出し済みのため、書き込みスレッド側で完了する
+        if (!running && current.remove(pending)) {
+            throw new IllegalStateException("書き込みバッファが停止しています");
+        }
+        return pending.result();
+    }
+    
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        BlockingQueue<PendingCreate> created = new ArrayBlockingQueue<>(queueCapacity);
+        Gauge.builder("app.write-buffer.queue-size", created, BlockingQueue::size)
+            .description("書き込み待ちの作成要求の数")
+            .register(meterRegistry);
+        queue = created;
+        running = true;
+        flusher = Thread.ofPlatform().name("sample-write-buffer").daemon(true).start(this::run);
+        log.info("書き込みバッファを開始しました: maxBatchSize={}, maxDelay={}, queueCapacity={}",
+            maxBatchSize, maxDelay, queueCapacity);
+    }
+    
+    /**
+     * 新規の受け付けを停止し、キューに残っている作成要求を書き込んでから終了
+     */
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("書き込みバッファを停止しました");
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+    
+    /**
+     * Webサーバーより先に開始し、処理中のリクエストを完了させた後に停止するフェーズ
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+    
+    /**
+     * キューから作成要求を取り出して書き込むループ
+     * 最初の要求を取り出してから最大待ち時間が経過するか、最大件数に達した時点で書き込む
+     */
+    private void run() {
+        List<PendingCreate> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingCreate first = queue.poll(POLL_INTERVAL.toNanos(), TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxDelay.toNanos();
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingCreate next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+                batch.forEach(pending -> pending.result()
+                    .completeExceptionally(new IllegalStateException("書き込みバッファが停止しました")));
+                break;
+            } catch (RuntimeException e) {
+                log.error("書き込みバッファの処理中に予期しないエラーが発生しました", e);
+                batch.forEach(pending -> pending.result().completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+        
+        // 割り込みで終了した場合も、受け付け済みの要求を待たせたままにしない
+        List<PendingCreate> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(pending -> pending.result()
+            .completeExceptionally(new IllegalStateException("書き込みバッファが停止しました")));
+    }
+    
+    /**
+     * 作成要求をまとめて1トランザクションで書き込み、コミット後に各要求を完了
+     * 制約違反で失敗した場合は、不正な1件が他の要求を巻き込まないよう1件ずつ書き込み直す
+     * 接続障害などその他の失敗は1件ずつ書き込み直しても成功しないため、全ての要求を失敗として完了する
+     * 
+     * @param batch 作成要求のリスト
+     */
+    private void flush(List<PendingCreate> batch) {
+        try {
+            List<SampleRecord> records = flushTimer.record(() -> insert(batch));
+            batchSizes.record(records.size());
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(records.get(i));
+            }
+        } catch (DataIntegrityViolationException e) {
+            if (batch.size() == 1) {
+                batch.get(0).result().completeExceptionally(e);
+                return;
+            }
+            log.warn("まとめての書き込みに失敗したため、1件ずつ書き込みます: 件数={}, 原因={}", batch.size(), e.getMessage());
+            for (PendingCreate pending : batch) {
+                flush(List.of(pending));
+            }
+        } catch (DataAccessException e) {
+            log.error("書き込みに失敗しました: 件数={}", batch.size(), e);
+            batch.forEach(pending -> pending.result().completeExceptionally(e));
+        }
+    }
+    
+    /**
+     * 作成要求の行をINSERTし、コミット後にキャッシュ等へ反映されるよう変更イベントを発行
+     * 
+     * @param batch 作成要求のリスト
+     * @return 作成したレコードのリスト（要求順）
+     */
+    private List<SampleRecord> insert(List<PendingCreate> batch) {
+        List<String> names = batch.stream().map(PendingCreate::name).toList();
+        return transactionTemplate.execute(status -> {
+            List<SampleRecord> records = sampleSqlRepository.insertAll(names, LocalDateTime.now());
+            records.forEach(record -> eventPublisher.publishEvent(SampleChangedEvent.created(record.id(), record.name())));
+            return records;
+        });
+    }
+    
+    /**
+     * 書き込み待ちの作成要求
+     * 
+     * @param name 名前
+     * @param result 作成結果
+     */
+    private record PendingCreate(String name, CompletableFuture<SampleRecord> result) {
+    }
+}
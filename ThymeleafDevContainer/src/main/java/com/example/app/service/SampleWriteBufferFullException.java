@@ -0,0 +1,19 @@
+package com.example.app.service;
+
+/**
+ * 書き込みバッファが満杯で、作成要求を受け付けられない場合の例外
+ * データベースの処理が追いついていないことを示すため、呼び出し元は時間をおいて再試行する
+ */
+public class SampleWriteBufferFullException extends RuntimeException {
+    
+    private static final long serialVersionUID = 1L;
+    
+    /**
+     * コンストラクタ
+     * 
+     * @param message メッセージ
+     */
+    public SampleWriteBufferFullException(String message) {
+        super(message);
+    }
+}
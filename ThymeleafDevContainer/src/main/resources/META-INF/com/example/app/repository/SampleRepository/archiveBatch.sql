@@ -0,0 +1,52 @@
+WITH batch AS (
+    SELECT
+        id,
+        created_at
+    FROM
+        sample_table
+    WHERE
+        created_at < /* cutoff */'2024-01-01 00:00:00'
+        AND (created_at, id) > (/* afterCreatedAt */'0001-01-01 00:00:00', /* afterId */0)
+    ORDER BY
+        created_at,
+        id
+    LIMIT /* batchSize */1000
+    FOR UPDATE SKIP LOCKED
+),
+moved AS (
+    DELETE FROM
+        sample_table s
+    USING
+        batch b
+    WHERE
+        s.id = b.id
+        AND s.created_at = b.created_at
+    RETURNING
+        s.id,
+        s.name,
+        s.created_at,
+        s.updated_at,
+        s.version
+)
+INSERT INTO sample_table_archive (
+    id,
+    name,
+    created_at,
+    updated_at,
+    version,
+    archived_at
+)
+SELECT
+    id,
+    name,
+    created_at,
+    updated_at,
+    version,
+    /* archivedAt */'2024-01-01 00:00:00'
+FROM
+    moved
+RETURNING
+    id,
+    name,
+    created_at,
+    updated_at
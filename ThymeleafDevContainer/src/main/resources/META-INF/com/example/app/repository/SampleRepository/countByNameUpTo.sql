@@ -0,0 +1,13 @@
+SELECT
+    count(*) AS count
+FROM
+    (
+        SELECT
+            1
+        FROM
+            sample_table
+        WHERE
+            name ILIKE /* pattern */'%sample%' ESCAPE '\'
+            OR name % /* keyword */'sample'
+        LIMIT /* limit */10001
+    ) limited
@@ -0,0 +1,10 @@
+SELECT
+    count(*) AS count
+FROM
+    (
+        SELECT
+            1
+        FROM
+            sample_table
+        LIMIT /* limit */10001
+    ) limited
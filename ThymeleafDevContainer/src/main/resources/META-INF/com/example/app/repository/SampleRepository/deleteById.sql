@@ -0,0 +1,6 @@
+DELETE FROM
+    sample_table
+WHERE
+    id = /* id */0
+RETURNING
+    name
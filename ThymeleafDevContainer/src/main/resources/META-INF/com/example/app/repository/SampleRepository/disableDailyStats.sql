@@ -0,0 +1 @@
+SET LOCAL app.daily_stats_disabled = 'on'
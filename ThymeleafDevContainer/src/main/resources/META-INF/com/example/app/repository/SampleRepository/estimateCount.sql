@@ -0,0 +1,14 @@
+SELECT
+    COALESCE(SUM(GREATEST(c.reltuples, 0)), 0)::bigint AS count
+FROM
+    pg_class c
+WHERE
+    c.oid IN (
+        SELECT
+            i.inhrelid
+        FROM
+            pg_inherits i
+        WHERE
+            i.inhparent = 'sample_table'::regclass
+    )
+    OR (c.oid = 'sample_table'::regclass AND c.relkind = 'r')
@@ -0,0 +1,8 @@
+EXPLAIN (FORMAT JSON)
+SELECT
+    1
+FROM
+    sample_table
+WHERE
+    name ILIKE /* pattern */'%sample%' ESCAPE '\'
+    OR name % /* keyword */'sample'
@@ -0,0 +1,30 @@
+WITH input AS MATERIALIZED (
+    SELECT
+        nextval('sample_table_id_seq') AS id,
+        t.name,
+        t.ord
+    FROM
+        unnest(/* names */'{}'::varchar[]) WITH ORDINALITY AS t(name, ord)
+),
+inserted AS (
+    INSERT INTO sample_table (
+        id,
+        name,
+        created_at,
+        updated_at
+    )
+    SELECT
+        id,
+        name,
+        /* createdAt */'2024-01-01 00:00:00',
+        /* createdAt */'2024-01-01 00:00:00'
+    FROM
+        input
+)
+SELECT
+    id,
+    name
+FROM
+    input
+ORDER BY
+    ord
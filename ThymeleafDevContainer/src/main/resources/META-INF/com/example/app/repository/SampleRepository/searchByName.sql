@@ -0,0 +1,43 @@
+SELECT
+    id,
+    name,
+    created_at,
+    updated_at
+FROM
+    (
+        (
+            SELECT
+                id,
+                name,
+                created_at,
+                updated_at,
+                name <-> /* keyword */'sample' AS distance
+            FROM
+                sample_table
+            WHERE
+                name % /* keyword */'sample'
+            ORDER BY
+                name <-> /* keyword */'sample'
+            LIMIT /* limit */20
+        )
+        UNION
+        (
+            SELECT
+                id,
+                name,
+                created_at,
+                updated_at,
+                name <-> /* keyword */'sample' AS distance
+            FROM
+                sample_table
+            WHERE
+                name ILIKE /* pattern */'%sample%' ESCAPE '\'
+            ORDER BY
+                name <-> /* keyword */'sample'
+            LIMIT /* limit */20
+        )
+    ) candidates
+ORDER BY
+    distance,
+    id
+LIMIT /* limit */20
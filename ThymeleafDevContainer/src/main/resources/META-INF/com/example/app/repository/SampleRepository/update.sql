@@ -0,0 +1,25 @@
+UPDATE
+    sample_table s
+SET
+    name = /* name */'sample',
+    updated_at = /* updatedAt */'2024-01-01 00:00:00',
+    version = s.version + 1
+FROM
+    (
+        SELECT
+            id,
+            name
+        FROM
+            sample_table
+        WHERE
+            id = /* id */0
+    ) old
+WHERE
+    s.id = old.id
+    AND s.version = /* version */0
+RETURNING
+    s.id,
+    s.name,
+    s.created_at,
+    s.updated_at,
+    old.name AS old_name
@@ -0,0 +1,12 @@
+SELECT
+    d.day::DATE AS stat_date,
+    COALESCE(SUM(s.created_count), 0) AS created_count,
+    COALESCE(SUM(s.updated_count), 0) AS updated_count,
+    COALESCE(SUM(s.deleted_count), 0) AS deleted_count
+FROM
+    generate_series(CAST(/* from */'2024-01-01' AS DATE), CAST(/* to */'2024-01-31' AS DATE), INTERVAL '1 day') AS d(day)
+    LEFT JOIN sample_daily_stats s ON s.stat_date = d.day::DATE
+GROUP BY
+    d.day
+ORDER BY
+    d.day
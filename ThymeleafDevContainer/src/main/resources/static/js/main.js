@@ -10,6 +10,9 @@ document.addEventListener('DOMContentLoaded', function() {
     // テーブルの行にホバー効果を追加
     addTableRowEffects();
     
+    // 名前入力欄のオートコンプリート
+    setupAutocomplete();
+    
     // ページ読み込み完了メッセージ
     showWelcomeMessage();
 });
@@ -50,6 +53,50 @@ function addTableRowEffects() {
     });
 }
 
+/**
+ * data-autocomplete属性を持つ入力欄にオートコンプリートを設定
+ * 入力が止まってから問い合わせ、古い応答で候補を上書きしないよう最新の要求のみ反映する
+ */
+function setupAutocomplete() {
+    const inputs = document.querySelectorAll('input[data-autocomplete]');
+    inputs.forEach(function(input) {
+        const datalist = document.getElementById(input.getAttribute('list'));
+        let timer = null;
+        let controller = null;
+        
+        input.addEventListener('input', function() {
+            clearTimeout(timer);
+            const prefix = input.value;
+            if (prefix.length === 0) {
+                datalist.replaceChildren();
+                return;
+            }
+            timer = setTimeout(function() {
+                if (controller) {
+                    controller.abort();
+                }
+                controller = new AbortController();
+                fetch('/api/samples/autocomplete?prefix=' + encodeURIComponent(prefix), { signal: controller.signal })
+                    .then(function(response) {
+                        return response.ok ? response.json() : [];
+                    })
+                    .then(function(names) {
+                        datalist.replaceChildren.apply(datalist, names.map(function(name) {
+                            const option = document.createElement('option');
+                            option.value = name;
+                            return option;
+                        }));
+                    })
+                    .catch(function(error) {
+                        if (error.name !== 'AbortError') {
+                            console.error('入力候補の取得に失敗しました:', error);
+                        }
+                    });
+            }, 150);
+        });
+    });
+}
+
 /**
  * ウェルカムメッセージを表示
  */
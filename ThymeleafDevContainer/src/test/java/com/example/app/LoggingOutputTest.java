@@ -156,7 +156,7 @@ class LoggingOutputTest {
         org.springframework.ui.ExtendedModelMap model = new org.springframework.ui.ExtendedModelMap();
         
         // When
-        sampleController.index(model);
+        sampleController.index(null, null, null, null, model);
         
         // Then
         List<ILoggingEvent> logEvents = listAppender.list;
@@ -359,7 +359,7 @@ class LoggingOutputTest {
         org.springframework.ui.ExtendedModelMap model = new org.springframework.ui.ExtendedModelMap();
         
         // When - コントローラーからサービスまでの一連の処理を実行
-        sampleController.index(model);
+        sampleController.index(null, null, null, null, model);
         
         // Then
         List<ILoggingEvent> logEvents = listAppender.list;
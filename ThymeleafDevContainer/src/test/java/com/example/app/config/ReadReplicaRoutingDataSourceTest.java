@@ -0,0 +1,133 @@
+package com.example.app.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ReadReplicaRoutingDataSourceの単体テスト
+ * トランザクションの読み取り専用フラグに応じた振り分けを検証する
+ */
+class ReadReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+
+    private DataSource replica1;
+
+    private DataSource replica2;
+
+    private ReadReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        primary = mock(DataSource.class);
+        replica1 = mock(DataSource.class);
+        replica2 = mock(DataSource.class);
+        routingDataSource = new ReadReplicaRoutingDataSource(primary, List.of(replica1, replica2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadReplicaRoutingDataSource.forcePrimary(false);
+    }
+
+    /**
+     * 書き込みトランザクションはプライマリへ振り分けられることを検証
+     */
+    @Test
+    @DisplayName("読み取り専用でない場合はプライマリを使用する")
+    void shouldRouteWritesToPrimary() {
+        assertThat(routingDataSource.determineTarget()).isSameAs(primary);
+    }
+
+    /**
+     * 読み取り専用トランザクションはレプリカへラウンドロビンで振り分けられることを検証
+     */
+    @Test
+    @DisplayName("読み取り専用の場合はレプリカをラウンドロビンで使用する")
+    void shouldRouteReadOnlyToReplicasInRoundRobin() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routingDataSource.determineTarget()).isSameAs(replica1);
+        assertThat(routingDataSource.determineTarget()).isSameAs(replica2);
+        assertThat(routingDataSource.determineTarget()).isSameAs(replica1);
+    }
+
+    /**
+     * 異常なレプリカが振り分け対象から除外されることを検証
+     */
+    @Test
+    @DisplayName("死活確認に失敗したレプリカは使用しない")
+    void shouldSkipUnhealthyReplica() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.isValid(1)).thenReturn(true);
+        when(replica1.getConnection()).thenThrow(new SQLException("connection refused"));
+        when(replica2.getConnection()).thenReturn(connection);
+        routingDataSource.checkReplicas(1);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routingDataSource.healthyReplicaCount()).isEqualTo(1);
+        assertThat(routingDataSource.determineTarget()).isSameAs(replica2);
+        assertThat(routingDataSource.determineTarget()).isSameAs(replica2);
+    }
+
+    /**
+     * 全レプリカが異常な場合はプライマリへフォールバックすることを検証
+     */
+    @Test
+    @DisplayName("正常なレプリカが存在しない場合はプライマリを使用する")
+    void shouldFallBackToPrimaryWhenNoReplicaIsHealthy() throws SQLException {
+        when(replica1.getConnection()).thenThrow(new SQLException("connection refused"));
+        when(replica2.getConnection()).thenThrow(new SQLException("connection refused"));
+        routingDataSource.checkReplicas(1);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routingDataSource.determineTarget()).isSameAs(primary);
+    }
+
+    /**
+     * プライマリへの振り分けを指定した読み取り専用トランザクションはプライマリを使用し、解除後はレプリカへ戻ることを検証
+     */
+    @Test
+    @DisplayName("プライマリへの振り分けを指定した場合は読み取り専用でもプライマリを使用し、元に戻すとレプリカを使用する")
+    void shouldRouteForcedReadsToPrimary() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        boolean previous = ReadReplicaRoutingDataSource.forcePrimary(true);
+        assertThat(routingDataSource.determineTarget()).isSameAs(primary);
+        assertThat(ReadReplicaRoutingDataSource.forcePrimary(true)).isTrue();
+        ReadReplicaRoutingDataSource.forcePrimary(previous);
+
+        assertThat(previous).isFalse();
+        assertThat(routingDataSource.determineTarget()).isSameAs(replica1);
+    }
+
+    /**
+     * 振り分け先のデータソースとして、プライマリと正常なレプリカのみが返されることを検証
+     */
+    @Test
+    @DisplayName("振り分け先はプライマリと正常なレプリカの順となり、異常なレプリカは含まない")
+    void shouldListPrimaryAndHealthyReplicasAsTargets() throws SQLException {
+        assertThat(routingDataSource.targetDataSources()).containsExactly(primary, replica1, replica2);
+
+        Connection connection = mock(Connection.class);
+        when(connection.isValid(1)).thenReturn(true);
+        when(replica1.getConnection()).thenReturn(connection);
+        when(replica2.getConnection()).thenThrow(new SQLException("connection refused"));
+        routingDataSource.checkReplicas(1);
+
+        assertThat(routingDataSource.targetDataSources()).containsExactly(primary, replica1);
+    }
+}
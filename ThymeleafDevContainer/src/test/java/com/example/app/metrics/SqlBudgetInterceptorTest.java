@@ -0,0 +1,106 @@
+package com.example.app.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SqlBudgetInterceptorの単体テスト
+ * リクエストスレッドへの統計の紐付け・解除と、リクエスト完了時のメトリクス記録を検証する
+ */
+class SqlBudgetInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SqlBudgetInterceptor interceptor;
+
+    private HandlerMethod handler;
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        SqlBudgetProperties properties = new SqlBudgetProperties(true, SqlBudgetProperties.Mode.LOG,
+            50, Duration.ofSeconds(1), Duration.ofMillis(200), 0.1,
+            Map.of("SampleHandler.list", new SqlBudgetProperties.Budget(1, null)));
+        interceptor = new SqlBudgetInterceptor(properties, meterRegistry);
+        handler = new HandlerMethod(new SampleHandler(), SampleHandler.class.getMethod("list"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SqlRequestStats.finish();
+    }
+
+    /**
+     * リクエスト開始時にエンドポイントの予算で計測を開始することを検証
+     */
+    @Test
+    @DisplayName("リクエスト開始時に「クラス名.メソッド名」のエンドポイントの予算で計測を開始する")
+    void shouldStartStatsWithEndpointBudget() {
+        interceptor.preHandle(request, response, handler);
+
+        SqlRequestStats stats = SqlRequestStats.current();
+        assertThat(stats).isNotNull();
+        assertThat(stats.getEndpoint()).isEqualTo("SampleHandler.list");
+        assertThat(stats.getBudget().maxStatements()).isEqualTo(1);
+    }
+
+    /**
+     * 非同期処理の開始時にリクエストスレッドの統計が解除されることを検証
+     */
+    @Test
+    @DisplayName("非同期処理の開始時にリクエストスレッドの統計を解除し、完了時にはメトリクスを記録しない")
+    void shouldClearStatsOnAsyncDispatch() {
+        interceptor.preHandle(request, response, handler);
+        SqlRequestStats.current().incrementStatements();
+
+        interceptor.afterConcurrentHandlingStarted(request, response, handler);
+
+        assertThat(SqlRequestStats.current()).isNull();
+        interceptor.afterCompletion(request, response, handler, null);
+        assertThat(meterRegistry.find("app.sql.request.statements").summary()).isNull();
+    }
+
+    /**
+     * リクエスト完了時に発行数と予算超過を記録し、統計を解除することを検証
+     */
+    @Test
+    @DisplayName("リクエスト完了時に発行数と予算超過を記録し、リクエストスレッドの統計を解除する")
+    void shouldRecordMetricsOnCompletion() {
+        interceptor.preHandle(request, response, handler);
+        SqlRequestStats.current().incrementStatements();
+        SqlRequestStats.current().incrementStatements();
+
+        interceptor.afterCompletion(request, response, handler, null);
+
+        assertThat(SqlRequestStats.current()).isNull();
+        assertThat(meterRegistry.get("app.sql.request.statements").tag("endpoint", "SampleHandler.list")
+            .summary().totalAmount()).isEqualTo(2);
+        assertThat(meterRegistry.get("app.sql.budget.exceeded").tag("endpoint", "SampleHandler.list")
+            .counter().count()).isEqualTo(1);
+    }
+
+    /**
+     * テスト用のハンドラー
+     */
+    static class SampleHandler {
+
+        public String list() {
+            return "index";
+        }
+    }
+}
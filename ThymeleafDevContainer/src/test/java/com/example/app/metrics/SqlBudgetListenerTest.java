@@ -0,0 +1,86 @@
+package com.example.app.metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * SqlBudgetListenerの単体テスト
+ * SQLの実行ごとの発行数・DB時間の加算と、FAILモードでの予算超過時の例外を検証する
+ */
+class SqlBudgetListenerTest {
+
+    private static final List<QueryInfo> QUERIES = List.of(new QueryInfo("SELECT 1"));
+
+    @AfterEach
+    void tearDown() {
+        SqlRequestStats.finish();
+    }
+
+    /**
+     * FAILモードでは予算を超えるSQLの実行前に例外となることを検証
+     */
+    @Test
+    @DisplayName("FAILモードでは上限を超えるSQLの実行前にSqlBudgetExceededExceptionを送出する")
+    void shouldThrowInFailModeWhenOverBudget() {
+        SqlBudgetListener listener = new SqlBudgetListener(properties(SqlBudgetProperties.Mode.FAIL));
+        SqlRequestStats.start("SampleController.index", new SqlBudgetProperties.Budget(2, Duration.ofSeconds(1)));
+
+        listener.beforeQuery(new ExecutionInfo(), QUERIES);
+        listener.beforeQuery(new ExecutionInfo(), QUERIES);
+
+        assertThatThrownBy(() -> listener.beforeQuery(new ExecutionInfo(), QUERIES))
+            .isInstanceOf(SqlBudgetExceededException.class)
+            .hasMessageContaining("SampleController.index");
+    }
+
+    /**
+     * LOGモードでは予算を超えても例外とならず、発行数のみ加算されることを検証
+     */
+    @Test
+    @DisplayName("LOGモードでは上限を超えても例外とせず、発行数とDB時間を加算する")
+    void shouldCountWithoutThrowingInLogMode() {
+        SqlBudgetListener listener = new SqlBudgetListener(properties(SqlBudgetProperties.Mode.LOG));
+        SqlRequestStats stats = SqlRequestStats.start("SampleController.index",
+            new SqlBudgetProperties.Budget(1, Duration.ofSeconds(1)));
+        ExecutionInfo executionInfo = new ExecutionInfo();
+        executionInfo.setElapsedTime(30);
+
+        for (int i = 0; i < 3; i++) {
+            listener.beforeQuery(executionInfo, QUERIES);
+            listener.afterQuery(executionInfo, QUERIES);
+        }
+
+        assertThat(stats.getStatements()).isEqualTo(3);
+        assertThat(stats.getElapsedMillis()).isEqualTo(90);
+        assertThat(stats.isOverBudget()).isTrue();
+    }
+
+    /**
+     * リクエスト処理中でないスレッドのSQLは計測しないことを検証
+     */
+    @Test
+    @DisplayName("リクエストに紐付いていないスレッドのSQLは計測せず、例外も送出しない")
+    void shouldIgnoreQueriesOutsideRequest() {
+        SqlBudgetListener listener = new SqlBudgetListener(properties(SqlBudgetProperties.Mode.FAIL));
+
+        assertThatCode(() -> {
+            listener.beforeQuery(new ExecutionInfo(), QUERIES);
+            listener.afterQuery(new ExecutionInfo(), QUERIES);
+        }).doesNotThrowAnyException();
+        assertThat(SqlRequestStats.current()).isNull();
+    }
+
+    private static SqlBudgetProperties properties(SqlBudgetProperties.Mode mode) {
+        return new SqlBudgetProperties(true, mode, 50, Duration.ofSeconds(1), Duration.ofSeconds(10), 0.0, null);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.app.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SqlBudgetPropertiesの単体テスト
+ * エンドポイント個別の予算と全体の設定の補完を検証する
+ */
+class SqlBudgetPropertiesTest {
+
+    private final SqlBudgetProperties properties = new SqlBudgetProperties(true, SqlBudgetProperties.Mode.LOG,
+        50, Duration.ofSeconds(1), Duration.ofMillis(200), 0.1,
+        Map.of("SampleApiController.autocomplete", new SqlBudgetProperties.Budget(0, null),
+            "SampleController.index", new SqlBudgetProperties.Budget(null, Duration.ofSeconds(5))));
+
+    /**
+     * 個別の指定がないエンドポイントは全体の設定となることを検証
+     */
+    @Test
+    @DisplayName("個別の指定がないエンドポイントは全体の発行数・DB時間の上限となる")
+    void shouldUseDefaultsForUnknownEndpoint() {
+        SqlBudgetProperties.Budget budget = properties.budgetFor("SampleController.edit");
+
+        assertThat(budget.maxStatements()).isEqualTo(50);
+        assertThat(budget.maxTime()).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    /**
+     * 個別に指定した項目のみが上書きされ、未指定の項目は全体の設定で補完されることを検証
+     */
+    @Test
+    @DisplayName("個別に指定した項目のみを上書きし、未指定の項目は全体の設定で補完する")
+    void shouldMergeEndpointOverridesWithDefaults() {
+        SqlBudgetProperties.Budget autocomplete = properties.budgetFor("SampleApiController.autocomplete");
+        assertThat(autocomplete.maxStatements()).isZero();
+        assertThat(autocomplete.maxTime()).isEqualTo(Duration.ofSeconds(1));
+
+        SqlBudgetProperties.Budget index = properties.budgetFor("SampleController.index");
+        assertThat(index.maxStatements()).isEqualTo(50);
+        assertThat(index.maxTime()).isEqualTo(Duration.ofSeconds(5));
+    }
+
+    /**
+     * エンドポイントの設定自体がない場合も全体の設定となることを検証
+     */
+    @Test
+    @DisplayName("エンドポイントごとの設定がない場合は全体の設定となる")
+    void shouldUseDefaultsWithoutEndpointSettings() {
+        SqlBudgetProperties withoutEndpoints = new SqlBudgetProperties(true, SqlBudgetProperties.Mode.LOG,
+            10, Duration.ofMillis(500), Duration.ofMillis(200), 0.1, null);
+
+        assertThat(withoutEndpoints.budgetFor("SampleController.index"))
+            .isEqualTo(new SqlBudgetProperties.Budget(10, Duration.ofMillis(500)));
+    }
+}
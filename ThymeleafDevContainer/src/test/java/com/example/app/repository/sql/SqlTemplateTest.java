@@ -0,0 +1,89 @@
+package com.example.app.repository.sql;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * SqlTemplateの単体テスト
+ * 2-way SQLのバインド変数コメントが正しく解析されることを検証する
+ */
+class SqlTemplateTest {
+
+    /**
+     * 数値・文字列のテスト値がプレースホルダーに置換されることを検証
+     */
+    @Test
+    @DisplayName("バインド変数コメントとテスト値がプレースホルダーに置換される")
+    void shouldReplaceBindVariablesWithPlaceholders() {
+        SqlTemplate template = SqlTemplate.parse("test",
+            "SELECT * FROM sample_table WHERE id = /* id */0 AND name = /* name */'sample' ORDER BY id");
+
+        assertThat(template.getSql())
+            .isEqualTo("SELECT * FROM sample_table WHERE id = ? AND name = ? ORDER BY id");
+        assertThat(template.getParameterNames()).containsExactly("id", "name");
+    }
+
+    /**
+     * 識別子以外のコメントや文字列リテラル内の記号が置換されないことを検証
+     */
+    @Test
+    @DisplayName("通常のコメントと文字列リテラルはそのまま残る")
+    void shouldKeepOrdinaryCommentsAndLiterals() {
+        SqlTemplate template = SqlTemplate.parse("test",
+            "SELECT '/* id */0' /* 全件取得 */ FROM sample_table -- /* name */'x'\nWHERE name = 'it''s'");
+
+        assertThat(template.getSql())
+            .isEqualTo("SELECT '/* id */0' /* 全件取得 */ FROM sample_table -- /* name */'x'\nWHERE name = 'it''s'");
+        assertThat(template.getParameterNames()).isEmpty();
+    }
+
+    /**
+     * パラメーターが出現順に並べられることを検証
+     */
+    @Test
+    @DisplayName("同じ変数が複数回出現する場合も出現順にバインドされる")
+    void shouldBindParametersInOrderOfAppearance() {
+        SqlTemplate template = SqlTemplate.parse("test",
+            "SELECT * FROM t WHERE a = /* id */-1 OR b = /* name */'x' OR c = /* id */1.5");
+
+        assertThat(template.bind(Map.of("id", 10L, "name", "foo"))).containsExactly(10L, "foo", 10L);
+    }
+
+    /**
+     * パラメーター不足が検出されることを検証
+     */
+    @Test
+    @DisplayName("パラメーターが不足している場合はIllegalArgumentExceptionとなる")
+    void shouldRejectMissingParameter() {
+        SqlTemplate template = SqlTemplate.parse("test", "SELECT * FROM t WHERE id = /* id */0");
+
+        assertThatThrownBy(() -> template.bind(Map.of()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("id");
+    }
+
+    /**
+     * テスト値がない場合に解析エラーとなることを検証
+     */
+    @Test
+    @DisplayName("バインド変数の直後にテスト値がない場合は解析エラーとなる")
+    void shouldRejectBindVariableWithoutTestValue() {
+        assertThatThrownBy(() -> SqlTemplate.parse("test", "SELECT * FROM t WHERE id = /* id */ 0"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * LIKEの特殊文字がエスケープされることを検証
+     */
+    @Test
+    @DisplayName("LIKEの特殊文字（\\、%、_）はバックスラッシュでエスケープされる")
+    void shouldEscapeLikeWildcards() {
+        assertThat(SqlTemplate.escapeLike("100%_a\\b")).isEqualTo("100\\%\\_a\\\\b");
+        assertThat(SqlTemplate.escapeLike("サンプル")).isEqualTo("サンプル");
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.app.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FrontCodedNamesの単体テスト
+ * ブロックをまたぐ名前の復元と、開始位置の探索を検証する
+ */
+class FrontCodedNamesTest {
+
+    /**
+     * 複数のブロックにまたがる名前が名前順に復元されることを検証
+     */
+    @Test
+    @DisplayName("追加順によらず名前順に並べ、同じ名前の件数を合算して復元する")
+    void shouldDecodeNamesInOrderAcrossBlocks() {
+        FrontCodedNames.Builder builder = new FrontCodedNames.Builder();
+        List<String> expected = new ArrayList<>();
+        for (int i = 99; i >= 0; i--) {
+            builder.add(String.format("name-%03d", i), 1);
+        }
+        for (int i = 0; i < 100; i++) {
+            expected.add(String.format("name-%03d", i));
+        }
+        builder.add("name-050", 2);
+        FrontCodedNames names = builder.build();
+
+        List<String> decoded = new ArrayList<>();
+        for (FrontCodedNames.Cursor cursor = names.cursor(""); cursor.hasNext(); cursor.advance()) {
+            decoded.add(cursor.name());
+        }
+        assertThat(decoded).isEqualTo(expected);
+        assertThat(names.size()).isEqualTo(100);
+        assertThat(names.count("name-050")).isEqualTo(3);
+        assertThat(names.count("name-100")).isZero();
+    }
+
+    /**
+     * ブロックの途中やブロックの間から読み始められることを検証
+     */
+    @Test
+    @DisplayName("指定した文字列以上の最初の名前から読み始める")
+    void shouldStartCursorAtFirstNameNotLessThanKey() {
+        FrontCodedNames.Builder builder = new FrontCodedNames.Builder();
+        for (int i = 0; i < 40; i++) {
+            builder.add(String.format("k%02d", i * 2), 1);
+        }
+        FrontCodedNames names = builder.build();
+
+        assertThat(names.cursor("k33").name()).isEqualTo("k34");
+        assertThat(names.cursor("k32").name()).isEqualTo("k32");
+        assertThat(names.cursor("a").name()).isEqualTo("k00");
+        assertThat(names.cursor("z").hasNext()).isFalse();
+        assertThat(FrontCodedNames.EMPTY.cursor("").hasNext()).isFalse();
+    }
+}
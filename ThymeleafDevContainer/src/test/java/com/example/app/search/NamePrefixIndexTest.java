@@ -0,0 +1,134 @@
+package com.example.app.search;
+
+import com.example.app.event.SampleChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.ResultSet;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * NamePrefixIndexの単体テスト
+ * データベースをモック化し、変更イベントによる差分反映・前方一致検索・再構築中の変更の再適用を検証する
+ */
+class NamePrefixIndexTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    private NamePrefixIndex index;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        index = new NamePrefixIndex(jdbcTemplate, mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(index, "maxPendingChanges", 10000);
+        index.onSampleChanged(SampleChangedEvent.created(1L, "apple"));
+        index.onSampleChanged(SampleChangedEvent.created(2L, "apricot"));
+        index.onSampleChanged(SampleChangedEvent.created(3L, "banana"));
+        index.onSampleChanged(SampleChangedEvent.created(4L, "apple"));
+    }
+
+    /**
+     * 前方一致する名前のみが名前順・重複なしで返却されることを検証
+     */
+    @Test
+    @DisplayName("前方一致する名前を名前順に重複なく返却し、件数の上限で打ち切る")
+    void shouldSuggestNamesByPrefix() {
+        assertThat(index.suggest("ap", 10)).containsExactly("apple", "apricot");
+        assertThat(index.suggest("ap", 1)).containsExactly("apple");
+        assertThat(index.suggest("c", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    /**
+     * 同名の行が残っている間は候補から除外されないことを検証
+     */
+    @Test
+    @DisplayName("同名の行がすべて削除・改名されるまで候補に残る")
+    void shouldKeepNameUntilLastRowIsRemoved() {
+        index.onSampleChanged(SampleChangedEvent.deleted(1L, "apple"));
+        assertThat(index.suggest("app", 10)).containsExactly("apple");
+
+        index.onSampleChanged(SampleChangedEvent.updated(4L, "apple", "cherry"));
+        assertThat(index.suggest("app", 10)).isEmpty();
+        assertThat(index.suggest("ch", 10)).containsExactly("cherry");
+    }
+
+    /**
+     * 差分を配列へ統合しても検索結果が変わらないことを検証
+     */
+    @Test
+    @DisplayName("差分を配列へ統合しても、名前ごとの件数と検索結果は変わらない")
+    void shouldKeepResultsAfterCompaction() {
+        index.onSampleChanged(SampleChangedEvent.deleted(3L, "banana"));
+        index.compact();
+
+        assertThat(index.suggest("", 10)).containsExactly("apple", "apricot");
+        assertThat(index.size()).isEqualTo(2);
+
+        index.onSampleChanged(SampleChangedEvent.deleted(1L, "apple"));
+        assertThat(index.suggest("app", 10)).containsExactly("apple");
+    }
+
+    /**
+     * 全件の読み込み中に発生した変更が、差し替え後に再適用されることを検証
+     */
+    @Test
+    @DisplayName("全件の読み込み中に発生した変更は、読み込んだ内容に再適用される")
+    void shouldReplayChangesDuringReload() throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString("name")).thenReturn("apple", "banana");
+        when(rs.getLong("cnt")).thenReturn(2L, 1L);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(rs);
+            // 読み込み中に他のトランザクションがコミットした変更
+            index.onSampleChanged(SampleChangedEvent.created(5L, "avocado"));
+            handler.processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        index.reload();
+
+        assertThat(index.suggest("a", 10)).containsExactly("apple", "avocado");
+        assertThat(index.suggest("b", 10)).containsExactly("banana");
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    /**
+     * 一括取り込みの変更イベントでは、イベントを発行したスレッドで全件を読み込まないことを検証
+     */
+    @Test
+    @DisplayName("一括取り込みの変更イベントでは、全件の読み込みを専用のスレッドで行う")
+    void shouldReloadOffThreadOnImport() {
+        AtomicReference<Thread> loader = new AtomicReference<>();
+        doAnswer(invocation -> {
+            loader.set(Thread.currentThread());
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+        index.start();
+        try {
+            index.onSampleChanged(SampleChangedEvent.imported());
+
+            verify(jdbcTemplate, timeout(5000)).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+            assertThat(loader.get()).isNotSameAs(Thread.currentThread());
+            assertThat(loader.get().getName()).isEqualTo("name-prefix-index");
+        } finally {
+            index.stop();
+        }
+    }
+}
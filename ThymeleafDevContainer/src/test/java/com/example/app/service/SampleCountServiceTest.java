@@ -0,0 +1,70 @@
+package com.example.app.service;
+
+import com.example.app.dto.SampleCount;
+import com.example.app.repository.SampleSqlRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * SampleCountServiceの単体テスト
+ * 閾値による正確な件数と推定値の切り替えを検証する
+ */
+class SampleCountServiceTest {
+
+    private SampleSqlRepository sampleSqlRepository;
+
+    private SampleCountService sampleCountService;
+
+    @BeforeEach
+    void setUp() {
+        sampleSqlRepository = mock(SampleSqlRepository.class);
+        sampleCountService = new SampleCountService(sampleSqlRepository);
+        ReflectionTestUtils.setField(sampleCountService, "exactThreshold", 100L);
+    }
+
+    /**
+     * 閾値以下の場合は数えた件数をそのまま返すことを検証
+     */
+    @Test
+    @DisplayName("件数が閾値以下の場合は正確な件数を返し、推定しない")
+    void shouldReturnExactCountBelowThreshold() {
+        when(sampleSqlRepository.countUpTo(100L)).thenReturn(42L);
+
+        SampleCount count = sampleCountService.countAll();
+
+        assertThat(count).isEqualTo(SampleCount.exact(42L));
+        verify(sampleSqlRepository, never()).estimateCount();
+    }
+
+    /**
+     * 閾値を超える場合は統計情報の推定値を返すことを検証
+     */
+    @Test
+    @DisplayName("件数が閾値を超える場合は推定値を返す")
+    void shouldReturnEstimateAboveThreshold() {
+        when(sampleSqlRepository.countUpTo(100L)).thenReturn(101L);
+        when(sampleSqlRepository.estimateCount()).thenReturn(1_000_000L);
+
+        assertThat(sampleCountService.countAll()).isEqualTo(SampleCount.approximate(1_000_000L));
+    }
+
+    /**
+     * 推定値が数えた件数を下回る場合（統計情報が古い場合）の下限を検証
+     */
+    @Test
+    @DisplayName("推定値が閾値を下回る場合は数えた件数を推定値とする")
+    void shouldNotReturnEstimateBelowCountedRows() {
+        when(sampleSqlRepository.countByNameUpTo("sample", 100L)).thenReturn(101L);
+        when(sampleSqlRepository.estimateCountByName("sample")).thenReturn(3L);
+
+        assertThat(sampleCountService.countByName(" sample ")).isEqualTo(SampleCount.approximate(101L));
+    }
+}
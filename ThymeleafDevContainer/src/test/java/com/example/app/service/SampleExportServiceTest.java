@@ -0,0 +1,150 @@
+package com.example.app.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * SampleExportServiceの単体テスト
+ * JDBCテンプレートをモック化し、カーソルの設定と1行ずつの出力を検証する
+ */
+class SampleExportServiceTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 1, 2, 3, 4, 5);
+
+    private JdbcTemplate jdbcTemplate;
+
+    private SampleExportService exportService;
+
+    private PreparedStatement preparedStatement;
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        exportService = new SampleExportService(jdbcTemplate, mock(PlatformTransactionManager.class),
+            new ObjectMapper());
+        ReflectionTestUtils.setField(exportService, "fetchSize", 500);
+        preparedStatement = mock(PreparedStatement.class);
+        connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(preparedStatement);
+    }
+
+    /**
+     * 前方専用カーソルにフェッチサイズを設定し、行を1行ずつ出力することを検証
+     * 全行を読み終える前に出力が始まっていれば、行を保持せずに書き出している
+     */
+    @Test
+    @DisplayName("前方専用カーソルにフェッチサイズを設定し、全行を読み終える前から1行ずつ出力する")
+    void shouldStreamRowsThroughForwardOnlyCursor() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<Integer> bytesWrittenWhileReading = new ArrayList<>();
+        String name = "x".repeat(100);
+        givenRows(1000, name, rowIndex -> bytesWrittenWhileReading.add(out.size()));
+
+        exportService.exportCsv(out);
+
+        verify(connection).prepareStatement(anyString(), eq(ResultSet.TYPE_FORWARD_ONLY),
+            eq(ResultSet.CONCUR_READ_ONLY));
+        verify(preparedStatement).setFetchSize(500);
+        verify(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+        verifyNoMoreInteractions(jdbcTemplate);
+        assertThat(bytesWrittenWhileReading.get(499)).isGreaterThan(0);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(1001);
+        assertThat(lines[0]).isEqualTo("id,name,created_at,updated_at");
+        assertThat(lines[1000]).isEqualTo("1000," + name + "," + CREATED_AT + ",");
+    }
+
+    /**
+     * CSVの値がエスケープされることを検証
+     */
+    @Test
+    @DisplayName("カンマ・ダブルクォートを含む名前はダブルクォートで囲み、ダブルクォートを二重にする")
+    void shouldEscapeCsvValues() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        givenRows(1, "a,\"b\"", rowIndex -> {
+        });
+
+        exportService.exportCsv(out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8))
+            .endsWith("1,\"a,\"\"b\"\"\"," + CREATED_AT + ",\n");
+    }
+
+    /**
+     * NDJSON形式で1行1オブジェクトとして出力されることを検証
+     */
+    @Test
+    @DisplayName("NDJSONは1行に1件のJSONオブジェクトを出力し、末尾を改行で終える")
+    void shouldWriteOneJsonObjectPerLine() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        givenRows(2, "サンプル", rowIndex -> {
+        });
+
+        exportService.exportNdjson(out);
+
+        String ndjson = out.toString(StandardCharsets.UTF_8);
+        assertThat(ndjson).endsWith("}\n");
+        String[] lines = ndjson.split("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode second = new ObjectMapper().readTree(lines[1]);
+        assertThat(second.get("id").asLong()).isEqualTo(2L);
+        assertThat(second.get("name").asText()).isEqualTo("サンプル");
+        assertThat(second.get("createdAt").asText()).isEqualTo(CREATED_AT.toString());
+        assertThat(second.get("updatedAt").asText()).isEmpty();
+    }
+
+    /**
+     * JDBCテンプレートが指定件数の行を1行ずつ行ハンドラーへ渡すよう設定
+     * 
+     * @param rows 行数
+     * @param name 各行の名前
+     * @param afterRow 各行の処理後に呼び出す処理（引数は0始まりの行番号）
+     */
+    private void givenRows(int rows, String name, IntConsumer afterRow) {
+        doAnswer(invocation -> {
+            PreparedStatementCreator creator = invocation.getArgument(0);
+            RowCallbackHandler handler = invocation.getArgument(1);
+            creator.createPreparedStatement(connection);
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.getString("name")).thenReturn(name);
+            when(rs.getObject("created_at", LocalDateTime.class)).thenReturn(CREATED_AT);
+            for (int i = 0; i < rows; i++) {
+                when(rs.getLong("id")).thenReturn(i + 1L);
+                handler.processRow(rs);
+                afterRow.accept(i);
+            }
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.app.service;
+
+import com.example.app.dto.ImportResult;
+import com.example.app.event.SampleChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * SampleImportServiceの単体テスト
+ * COPY操作をモック化し、CSVの読み込み・検証・チャンク単位の送信と取り込み結果を検証する
+ */
+class SampleImportServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    private ApplicationEventPublisher eventPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SampleImportService importService;
+
+    private CopyIn copyIn;
+
+    /** COPYへ送信されたチャンク */
+    private final List<String> chunks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        meterRegistry = new SimpleMeterRegistry();
+        importService = new SampleImportService(jdbcTemplate, eventPublisher, meterRegistry);
+        ReflectionTestUtils.setField(importService, "chunkSize", 10000);
+
+        copyIn = mock(CopyIn.class);
+        doAnswer(invocation -> {
+            byte[] bytes = invocation.getArgument(0);
+            chunks.add(new String(bytes, invocation.<Integer>getArgument(1), invocation.<Integer>getArgument(2),
+                StandardCharsets.UTF_8));
+            return null;
+        }).when(copyIn).writeToCopy(any(byte[].class), anyInt(), anyInt());
+        when(copyIn.endCopy()).thenAnswer(invocation -> chunks.stream()
+            .mapToLong(chunk -> chunk.chars().filter(c -> c == '\n').count())
+            .sum());
+        CopyManager copyManager = mock(CopyManager.class);
+        when(copyManager.copyIn(anyString())).thenReturn(copyIn);
+        PGConnection pgConnection = mock(PGConnection.class);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        Connection connection = mock(Connection.class);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenAnswer(invocation ->
+            invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(connection));
+    }
+
+    /**
+     * BOM付きのヘッダー行と空行を読み飛ばし、クォートされた値を取り込むことを検証
+     */
+    @Test
+    @DisplayName("BOM付きのヘッダー行と空行は読み飛ばし、クォート内のカンマ・ダブルクォートを含む名前を取り込む")
+    void shouldSkipBomHeaderAndBlankLines() {
+        ImportResult result = importService.importCsv(csv("\uFEFFname\nサンプル1\n\n\"a,\"\"b\"\"\",ignored\n  前後の空白  \n"));
+
+        assertThat(result.processed()).isEqualTo(3);
+        assertThat(result.imported()).isEqualTo(3);
+        assertThat(result.rejected()).isZero();
+        assertThat(result.errors()).isEmpty();
+        String[] rows = String.join("", chunks).split("\n");
+        assertThat(rows).hasSize(3);
+        assertThat(rows[0]).startsWith("\"サンプル1\",");
+        assertThat(rows[1]).startsWith("\"a,\"\"b\"\"\",");
+        assertThat(rows[2]).startsWith("\"前後の空白\",");
+        verify(eventPublisher).publishEvent(any(SampleChangedEvent.class));
+    }
+
+    /**
+     * 不正な行のみを除外し、行番号付きのエラーと件数を返すことを検証
+     */
+    @Test
+    @DisplayName("空の名前・長すぎる名前・閉じていないクォートの行は行番号付きで除外し、残りの行を取り込む")
+    void shouldRejectInvalidLinesAndKeepValidOnes() {
+        String tooLong = "あ".repeat(256);
+        ImportResult result = importService.importCsv(csv("ok1\n,x\n" + tooLong + "\n\"複数行の\nつづき\"\nok2\n"));
+
+        assertThat(result.processed()).isEqualTo(6);
+        assertThat(result.imported()).isEqualTo(3);
+        assertThat(result.rejected()).isEqualTo(3);
+        assertThat(result.errors()).containsExactly(
+            "2行目: 名前は必須です",
+            "3行目: 名前は255文字以内で指定してください",
+            "4行目: ダブルクォートが閉じられていません（改行を含む値には対応していません）");
+        assertThat(meterRegistry.get("app.import.rows").tag("outcome", "accepted").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("app.import.rows").tag("outcome", "rejected").counter().count()).isEqualTo(3);
+    }
+
+    /**
+     * 検証済みの行がチャンクサイズごとにCOPYへ送信されることを検証
+     */
+    @Test
+    @DisplayName("検証済みの行はチャンクサイズごとにCOPYへ送信し、端数は最後にまとめて送信する")
+    void shouldWriteValidRowsInChunks() {
+        ReflectionTestUtils.setField(importService, "chunkSize", 2);
+
+        ImportResult result = importService.importCsv(csv("a\nb\n\nc\nd\ne\n"));
+
+        assertThat(result.imported()).isEqualTo(5);
+        assertThat(chunks).hasSize(3);
+        assertThat(chunks.get(0).split("\n")).hasSize(2);
+        assertThat(chunks.get(2).split("\n")).hasSize(1);
+    }
+
+    /**
+     * エラー内容は上限件数までに切り詰め、除外件数は全件を数えることを検証
+     */
+    @Test
+    @DisplayName("エラー内容は先頭100件までとし、除外件数は全件を数える。取り込み件数が0件の場合は変更イベントを発行しない")
+    void shouldCapReportedErrors() {
+        ImportResult result = importService.importCsv(csv(",\n".repeat(150)));
+
+        assertThat(result.processed()).isEqualTo(150);
+        assertThat(result.imported()).isZero();
+        assertThat(result.rejected()).isEqualTo(150);
+        assertThat(result.errors()).hasSize(100);
+        assertThat(result.errors().get(99)).startsWith("100行目:");
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    private static ByteArrayInputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.app.service;
+
+import com.example.app.dto.KeysetPage;
+import com.example.app.dto.SampleRecord;
+import com.example.app.entity.SampleEntity;
+import com.example.app.repository.SampleRepository;
+import com.example.app.repository.SampleSqlRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * SampleServiceの単体テスト
+ * リポジトリをモック化し、サービス層のロジックのみを検証する
+ */
+class SampleServiceTest {
+
+    private SampleRepository sampleRepository;
+
+    private SampleSqlRepository sampleSqlRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SampleService sampleService;
+
+    @BeforeEach
+    void setUp() {
+        sampleRepository = mock(SampleRepository.class);
+        sampleSqlRepository = mock(SampleSqlRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        sampleService = new SampleService(sampleRepository, sampleSqlRepository,
+            mock(ApplicationEventPublisher.class), mock(SampleWriteBuffer.class),
+            mock(PlatformTransactionManager.class), meterRegistry);
+    }
+
+    /**
+     * 先頭ページで次ページが存在する場合のカーソルを検証
+     */
+    @Test
+    @DisplayName("先頭ページは前ページカーソルを持たず、次ページカーソルは最終要素のIDとなる")
+    void shouldReturnFirstPageWithNextCursor() {
+        when(sampleRepository.findNextPage(eq(0L), eq(Limit.of(3)))).thenReturn(records(1, 2, 3));
+
+        KeysetPage<SampleRecord> page = sampleService.findPage(null, null, 2);
+
+        assertThat(page.content()).extracting(SampleRecord::id).containsExactly(1L, 2L);
+        assertThat(page.hasPrevious()).isFalse();
+        assertThat(page.nextCursor()).isEqualTo(2L);
+    }
+
+    /**
+     * 最終ページの場合は次ページカーソルを持たないことを検証
+     */
+    @Test
+    @DisplayName("最終ページは次ページカーソルを持たない")
+    void shouldReturnLastPageWithoutNextCursor() {
+        when(sampleRepository.findNextPage(eq(2L), eq(Limit.of(3)))).thenReturn(records(3));
+
+        KeysetPage<SampleRecord> page = sampleService.findPage(2L, null, 2);
+
+        assertThat(page.content()).extracting(SampleRecord::id).containsExactly(3L);
+        assertThat(page.previousCursor()).isEqualTo(3L);
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    /**
+     * 前ページ取得時にID昇順へ並べ替えられることを検証
+     */
+    @Test
+    @DisplayName("前ページはID昇順に並べ替えられ、最終要素のIDが次ページカーソルとなる")
+    void shouldReturnPreviousPageInAscendingOrder() {
+        when(sampleRepository.findPreviousPage(eq(5L), eq(Limit.of(3)))).thenReturn(records(4, 3, 2));
+
+        KeysetPage<SampleRecord> page = sampleService.findPage(null, 5L, 2);
+
+        assertThat(page.content()).extracting(SampleRecord::id).containsExactly(3L, 4L);
+        assertThat(page.previousCursor()).isEqualTo(3L);
+        assertThat(page.nextCursor()).isEqualTo(4L);
+    }
+
+    /**
+     * 不正なページサイズが拒否されることを検証
+     */
+    @Test
+    @DisplayName("ページサイズが0以下の場合はIllegalArgumentExceptionとなる")
+    void shouldRejectNonPositivePageSize() {
+        assertThatThrownBy(() -> sampleService.findPage(null, null, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * バージョン不一致で更新件数が0件の場合に競合となることを検証
+     */
+    @Test
+    @DisplayName("行が存在するのに更新件数が0件の場合はOptimisticLockingFailureExceptionとなり、競合として計上される")
+    void shouldReportConflictWhenVersionDoesNotMatch() {
+        when(sampleSqlRepository.update(eq(1L), eq("新しい名前"), eq(0L), any())).thenReturn(Optional.empty());
+        when(sampleSqlRepository.findById(1L)).thenReturn(Optional.of(records(1).get(0)));
+
+        assertThatThrownBy(() -> sampleService.update(1L, "新しい名前", 0L))
+            .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(meterRegistry.counter("app.sample.updates", "outcome", "conflict").count()).isEqualTo(1.0);
+    }
+
+    /**
+     * 行が存在しない場合は競合ではなく不存在となることを検証
+     */
+    @Test
+    @DisplayName("行が存在せず更新件数が0件の場合は競合として扱わない")
+    void shouldReportNotFoundWhenRowDoesNotExist() {
+        when(sampleSqlRepository.update(eq(9L), eq("新しい名前"), eq(0L), any())).thenReturn(Optional.empty());
+        when(sampleSqlRepository.findById(9L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> sampleService.update(9L, "新しい名前", 0L))
+            .isNotInstanceOf(OptimisticLockingFailureException.class)
+            .hasMessageContaining("見つかりません");
+        assertThat(meterRegistry.counter("app.sample.updates", "outcome", "conflict").count()).isZero();
+    }
+
+    /**
+     * 詳細表示用のレコードがエンティティの取得（第2レベルキャッシュ）から生成されることを検証
+     */
+    @Test
+    @DisplayName("詳細表示用のレコードはJDBCではなく第2レベルキャッシュ対象のエンティティの取得から生成する")
+    void shouldBuildRecordFromCachedEntity() {
+        LocalDateTime now = LocalDateTime.now();
+        when(sampleRepository.findById(1L)).thenReturn(Optional.of(new SampleEntity(1L, "サンプル1", now, now)));
+
+        Optional<SampleRecord> record = sampleService.findRecordById(1L);
+
+        assertThat(record).contains(new SampleRecord(1L, "サンプル1", now, now));
+        verifyNoInteractions(sampleSqlRepository);
+    }
+
+    private static List<SampleRecord> records(long... ids) {
+        LocalDateTime now = LocalDateTime.now();
+        return LongStream.of(ids)
+            .mapToObj(id -> new SampleRecord(id, "サンプル" + id, now, now))
+            .toList();
+    }
+}
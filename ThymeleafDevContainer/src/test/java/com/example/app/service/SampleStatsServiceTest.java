@@ -0,0 +1,61 @@
+package com.example.app.service;
+
+import com.example.app.dto.DailySampleStats;
+import com.example.app.repository.SampleStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * SampleStatsServiceの単体テスト
+ * 期間の検証を確認する
+ */
+class SampleStatsServiceTest {
+
+    private SampleStatsRepository sampleStatsRepository;
+
+    private SampleStatsService sampleStatsService;
+
+    @BeforeEach
+    void setUp() {
+        sampleStatsRepository = mock(SampleStatsRepository.class);
+        sampleStatsService = new SampleStatsService(sampleStatsRepository);
+        ReflectionTestUtils.setField(sampleStatsService, "maxDays", 31L);
+    }
+
+    /**
+     * 上限日数ちょうどの期間は取得できることを検証
+     */
+    @Test
+    @DisplayName("開始日と終了日を含めて上限日数以内の期間は取得できる")
+    void shouldFindDailyStatsWithinMaxDays() {
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 1, 31);
+        List<DailySampleStats> stats = List.of(new DailySampleStats(from, 1, 2, 3));
+        when(sampleStatsRepository.findDaily(from, to)).thenReturn(stats);
+
+        assertThat(sampleStatsService.findDaily(from, to)).isEqualTo(stats);
+    }
+
+    /**
+     * 不正な期間が拒否されることを検証
+     */
+    @Test
+    @DisplayName("開始日が終了日より後の期間や上限日数を超える期間は拒否される")
+    void shouldRejectInvalidRange() {
+        assertThatThrownBy(() -> sampleStatsService.findDaily(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 1, 1)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> sampleStatsService.findDaily(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 1)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("31日以内");
+    }
+}
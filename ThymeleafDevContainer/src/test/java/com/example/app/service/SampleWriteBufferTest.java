@@ -0,0 +1,212 @@
+package com.example.app.service;
+
+import com.example.app.dto.SampleRecord;
+import com.example.app.repository.SampleSqlRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * SampleWriteBufferの単体テスト
+ * リポジトリをモック化し、バッファリング・拒否・1件ずつの書き込み直し・停止時の動作を検証する
+ */
+class SampleWriteBufferTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(5);
+
+    private SampleSqlRepository sampleSqlRepository;
+
+    private SampleWriteBuffer writeBuffer;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        sampleSqlRepository = mock(SampleSqlRepository.class);
+        writeBuffer = new SampleWriteBuffer(sampleSqlRepository, mock(PlatformTransactionManager.class),
+            mock(ApplicationEventPublisher.class), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(writeBuffer, "enabled", true);
+        ReflectionTestUtils.setField(writeBuffer, "maxBatchSize", 100);
+        ReflectionTestUtils.setField(writeBuffer, "maxDelay", Duration.ofMillis(200));
+        ReflectionTestUtils.setField(writeBuffer, "queueCapacity", 1000);
+        ReflectionTestUtils.setField(writeBuffer, "offerTimeout", Duration.ofMillis(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        writeBuffer.stop();
+    }
+
+    /**
+     * 最大待ち時間内の作成要求が1回の書き込みにまとめられることを検証
+     */
+    @Test
+    @DisplayName("最大待ち時間内の作成要求は1文のINSERTでまとめて書き込まれ、要求順に完了する")
+    void shouldFlushRequestsInOneBatch() throws Exception {
+        when(sampleSqlRepository.insertAll(anyList(), any())).thenAnswer(invocation -> records(invocation.getArgument(0)));
+        writeBuffer.start();
+
+        CompletableFuture<SampleRecord> first = writeBuffer.submit("a");
+        CompletableFuture<SampleRecord> second = writeBuffer.submit("b");
+        CompletableFuture<SampleRecord> third = writeBuffer.submit("c");
+
+        assertThat(first.get(WAIT.toMillis(), TimeUnit.MILLISECONDS).name()).isEqualTo("a");
+        assertThat(second.get(WAIT.toMillis(), TimeUnit.MILLISECONDS).name()).isEqualTo("b");
+        assertThat(third.get(WAIT.toMillis(), TimeUnit.MILLISECONDS).name()).isEqualTo("c");
+        verify(sampleSqlRepository, times(1)).insertAll(anyList(), any());
+        verify(sampleSqlRepository).insertAll(eq(List.of("a", "b", "c")), any());
+    }
+
+    /**
+     * キューが満杯の場合に作成要求が拒否されることを検証
+     */
+    @Test
+    @DisplayName("キューが満杯で空きを待っても追加できない場合はSampleWriteBufferFullExceptionとなる")
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        ReflectionTestUtils.setField(writeBuffer, "maxBatchSize", 1);
+        ReflectionTestUtils.setField(writeBuffer, "queueCapacity", 1);
+        CountDownLatch inserting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(sampleSqlRepository.insertAll(anyList(), any())).thenAnswer(invocation -> {
+            inserting.countDown();
+            release.await();
+            return records(invocation.getArgument(0));
+        });
+        writeBuffer.start();
+
+        // 1件目の書き込み中に2件目でキューを満杯にする
+        CompletableFuture<SampleRecord> first = writeBuffer.submit("a");
+        assertThat(inserting.await(WAIT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+        CompletableFuture<SampleRecord> second = writeBuffer.submit("b");
+
+        assertThatThrownBy(() -> writeBuffer.submit("c"))
+            .isInstanceOf(SampleWriteBufferFullException.class);
+
+        release.countDown();
+        assertThat(first.get(WAIT.toMillis(), TimeUnit.MILLISECONDS).name()).isEqualTo("a");
+        assertThat(second.get(WAIT.toMillis(), TimeUnit.MILLISECONDS).name()).isEqualTo("b");
+    }
+
+    /**
+     * 制約違反の場合は1件ずつ書き込み直し、不正な要求のみが失敗することを検証
+     */
+    @Test
+    @DisplayName("制約違反で失敗した場合は1件ずつ書き込み直し、不正な要求のみが失敗する")
+    void shouldRetryOneByOneOnIntegrityViolation() throws Exception {
+        when(sampleSqlRepository.insertAll(anyList(), any())).thenAnswer(invocation -> {
+            List<String> names = invocation.getArgument(0);
+            if (names.contains("bad")) {
+                throw new DataIntegrityViolationException("value too long");
+            }
+            return records(names);
+        });
+        writeBuffer.start();
+
+        CompletableFuture<SampleRecord> good = writeBuffer.submit("good");
+        CompletableFuture<SampleRecord> bad = writeBuffer.submit("bad");
+
+        assertThat(good.get(WAIT.toMillis(), TimeUnit.MILLISECONDS).name()).isEqualTo("good");
+        assertThatThrownBy(() -> bad.get(WAIT.toMillis(), TimeUnit.MILLISECONDS))
+            .hasCauseInstanceOf(DataIntegrityViolationException.class);
+        verify(sampleSqlRepository, times(3)).insertAll(anyList(), any());
+    }
+
+    /**
+     * 制約違反以外の失敗では書き込み直さないことを検証
+     */
+    @Test
+    @DisplayName("接続障害などの失敗では1件ずつ書き込み直さず、全ての要求が失敗する")
+    void shouldFailAllWithoutRetryOnOtherErrors() {
+        when(sampleSqlRepository.insertAll(anyList(), any()))
+            .thenThrow(new TransientDataAccessResourceException("connection refused"));
+        writeBuffer.start();
+
+        CompletableFuture<SampleRecord> first = writeBuffer.submit("a");
+        CompletableFuture<SampleRecord> second = writeBuffer.submit("b");
+
+        assertThatThrownBy(() -> first.get(WAIT.toMillis(), TimeUnit.MILLISECONDS))
+            .hasCauseInstanceOf(TransientDataAccessResourceException.class);
+        assertThatThrownBy(() -> second.get(WAIT.toMillis(), TimeUnit.MILLISECONDS))
+            .hasCauseInstanceOf(TransientDataAccessResourceException.class);
+        verify(sampleSqlRepository, times(1)).insertAll(anyList(), any());
+    }
+
+    /**
+     * 停止時に受け付け済みの要求を書き込み、停止後の要求を拒否することを検証
+     */
+    @Test
+    @DisplayName("停止時は受け付け済みの要求を書き込んでから終了し、停止後の要求は受け付けない")
+    void shouldFlushPendingRequestsOnStop() throws Exception {
+        ReflectionTestUtils.setField(writeBuffer, "maxDelay", Duration.ofSeconds(1));
+        when(sampleSqlRepository.insertAll(anyList(), any())).thenAnswer(invocation -> records(invocation.getArgument(0)));
+        writeBuffer.start();
+
+        CompletableFuture<SampleRecord> pending = writeBuffer.submit("a");
+        writeBuffer.stop();
+
+        assertThat(pending).isCompleted();
+        assertThat(pending.get().name()).isEqualTo("a");
+        assertThat(writeBuffer.isRunning()).isFalse();
+        assertThatThrownBy(() -> writeBuffer.submit("b"))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    /**
+     * 停止と並行して追加された要求が完了されないまま残らないことを検証
+     */
+    @Test
+    @DisplayName("停止と並行した作成要求は、書き込まれるか停止の例外となり、待たされたまま残らない")
+    void shouldNotLeaveRequestsPendingWhenStoppedConcurrently() throws Exception {
+        when(sampleSqlRepository.insertAll(anyList(), any())).thenAnswer(invocation -> records(invocation.getArgument(0)));
+
+        for (int attempt = 0; attempt < 20; attempt++) {
+            writeBuffer.start();
+            CountDownLatch ready = new CountDownLatch(1);
+            CompletableFuture<CompletableFuture<SampleRecord>> submitted = CompletableFuture.supplyAsync(() -> {
+                ready.countDown();
+                try {
+                    return writeBuffer.submit("a");
+                } catch (IllegalStateException e) {
+                    return CompletableFuture.completedFuture(null);
+                }
+            });
+            ready.await();
+            writeBuffer.stop();
+
+            CompletableFuture<SampleRecord> result = submitted.get(WAIT.toMillis(), TimeUnit.MILLISECONDS);
+            assertThat(result).succeedsWithin(WAIT);
+        }
+    }
+
+    private List<SampleRecord> records(List<String> names) {
+        LocalDateTime now = LocalDateTime.now();
+        return names.stream()
+            .map(name -> new SampleRecord(sequence.incrementAndGet(), name, now, now))
+            .toList();
+    }
+}
@@ -2,15 +2,111 @@
 -- PostgreSQLコンテナの初回起動時に自動実行されます
 
 -- sample_tableテーブルの作成
+-- created_atによる月単位のレンジパーティションとし、VACUUMやインデックス保守の対象をパーティション単位に限定する
+-- パーティションキーを含める必要があるため、主キーは(id, created_at)とする（idはシーケンスで一意に採番される）
 CREATE TABLE IF NOT EXISTS sample_table (
-    id BIGSERIAL PRIMARY KEY,
+    id BIGSERIAL,
     name VARCHAR(255) NOT NULL,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
-);
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    -- 楽観的排他制御用のバージョン（更新のたびに1加算する）
+    version BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- どの月のパーティションにも該当しない行の格納先
+-- 月別パーティションはアプリケーションが定期的に先行作成する（SamplePartitionMaintenanceService）
+CREATE TABLE IF NOT EXISTS sample_table_default PARTITION OF sample_table DEFAULT;
+
+-- 当月から3か月先までの月別パーティションを作成
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', CURRENT_DATE)::DATE;
+BEGIN
+    FOR i IN 0..3 LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF sample_table FOR VALUES FROM (%L) TO (%L)',
+            'sample_table_p' || to_char(month_start + make_interval(months => i), 'YYYYMM'),
+            month_start + make_interval(months => i),
+            month_start + make_interval(months => i + 1));
+    END LOOP;
+END $$;
 
 -- インデックスの作成
 CREATE INDEX IF NOT EXISTS idx_sample_table_name ON sample_table(name);
+CREATE INDEX IF NOT EXISTS idx_sample_table_created_at ON sample_table(created_at);
+
+-- 名前の部分一致・あいまい検索用のトライグラムインデックス
+-- B-treeでは中間一致（LIKE '%x%'）や類似度検索にインデックスを使用できないため、pg_trgmのGINインデックスを作成する
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_sample_table_name_trgm ON sample_table USING gin (name gin_trgm_ops);
+-- 類似度順の検索（ORDER BY name <-> キーワード LIMIT n）は、GiSTインデックスのKNN探索で近い順に必要な件数だけ読み込む
+CREATE INDEX IF NOT EXISTS idx_sample_table_name_trgm_gist ON sample_table USING gist (name gist_trgm_ops);
+
+-- アーカイブテーブルの作成
+-- 一定期間を経過したsample_tableの行をアーカイブジョブ（SampleArchiveService）が移動する
+CREATE TABLE IF NOT EXISTS sample_table_archive (
+    id BIGINT NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    version BIGINT NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, created_at)
+);
+
+-- 日別統計テーブルの作成
+-- sample_tableの作成・更新・削除件数を日別に集計し、ダッシュボードは日数に比例するコストで参照する（SampleStatsRepository）
+-- 同じ日の行に更新が集中して行ロック待ちが発生しないよう、1日をslot（接続ごとに振り分け）単位の複数行に分割し、参照時に合計する
+CREATE TABLE IF NOT EXISTS sample_daily_stats (
+    stat_date DATE NOT NULL,
+    slot SMALLINT NOT NULL,
+    created_count BIGINT NOT NULL DEFAULT 0,
+    updated_count BIGINT NOT NULL DEFAULT 0,
+    deleted_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (stat_date, slot)
+);
+
+-- 日別統計の更新トリガー関数
+-- 文単位のトリガーで遷移テーブル（変更された行の集合）を日別に集計し、1文につき日数分の行だけを加算する
+-- 作成は作成日時、更新は更新日時、削除は削除を実行した日付で集計する
+-- アーカイブによる移動（SampleArchiveService）は削除として数えないよう、app.daily_stats_disabledが設定されたトランザクションでは集計しない
+CREATE OR REPLACE FUNCTION sample_daily_stats_maintain() RETURNS TRIGGER AS $$
+DECLARE
+    v_slot SMALLINT := pg_backend_pid() % 8;
+BEGIN
+    IF current_setting('app.daily_stats_disabled', true) = 'on' THEN
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO sample_daily_stats AS s (stat_date, slot, created_count)
+        SELECT created_at::DATE, v_slot, count(*) FROM new_rows GROUP BY 1 ORDER BY 1
+        ON CONFLICT (stat_date, slot) DO UPDATE SET created_count = s.created_count + EXCLUDED.created_count;
+    ELSIF TG_OP = 'UPDATE' THEN
+        INSERT INTO sample_daily_stats AS s (stat_date, slot, updated_count)
+        SELECT updated_at::DATE, v_slot, count(*) FROM new_rows GROUP BY 1 ORDER BY 1
+        ON CONFLICT (stat_date, slot) DO UPDATE SET updated_count = s.updated_count + EXCLUDED.updated_count;
+    ELSIF TG_OP = 'DELETE' THEN
+        INSERT INTO sample_daily_stats AS s (stat_date, slot, deleted_count)
+        SELECT LOCALTIMESTAMP::DATE, v_slot, count(*) FROM old_rows HAVING count(*) > 0
+        ON CONFLICT (stat_date, slot) DO UPDATE SET deleted_count = s.deleted_count + EXCLUDED.deleted_count;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 遷移テーブルを参照するトリガーは1つのイベントにしか指定できないため、操作ごとに作成する
+-- パーティションテーブルに作成し、全パーティションへの変更（COPYを含む）を集計する
+CREATE OR REPLACE TRIGGER sample_daily_stats_insert
+    AFTER INSERT ON sample_table REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION sample_daily_stats_maintain();
+CREATE OR REPLACE TRIGGER sample_daily_stats_update
+    AFTER UPDATE ON sample_table REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION sample_daily_stats_maintain();
+CREATE OR REPLACE TRIGGER sample_daily_stats_delete
+    AFTER DELETE ON sample_table REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION sample_daily_stats_maintain();
 
 -- サンプルデータの投入（開発環境用）
 INSERT INTO sample_table (name) VALUES 
@@ -19,5 +115,9 @@ INSERT INTO sample_table (name) VALUES
     ('サンプル3')
 ON CONFLICT DO NOTHING;
 
+-- IDシーケンスの増分をJPAのallocationSize（50）に合わせる
+-- Hibernateのpooledオプティマイザーが1回のnextvalで50件分のIDを確保し、INSERTをJDBCバッチ化できるようにする
+ALTER SEQUENCE sample_table_id_seq INCREMENT BY 50;
+
 -- 確認メッセージ（コメントのみ）
 -- データベース初期化が完了しました
\ No newline at end of file